@@ -0,0 +1,9 @@
+plugins {
+    jaskl
+}
+
+dependencies {
+    implementation(project(":core"))
+
+    testAnnotationProcessor(project(":annotation-processor"))
+}
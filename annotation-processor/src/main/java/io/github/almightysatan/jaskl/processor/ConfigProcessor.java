@@ -0,0 +1,501 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.processor;
+
+import io.github.almightysatan.jaskl.annotation.Description;
+import io.github.almightysatan.jaskl.annotation.Entry;
+import io.github.almightysatan.jaskl.annotation.TypeHint;
+import io.github.almightysatan.jaskl.annotation.Validate;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.*;
+import javax.lang.model.util.ElementFilter;
+import javax.lang.model.util.Elements;
+import javax.lang.model.util.Types;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * Generates reflection-free code for classes containing {@link Entry} annotated fields. For every such class
+ * {@code Foo} two classes are generated in the same package:
+ * <ul>
+ *     <li>{@code FooRegistrar} with a static {@code registerEntries(Config)} method that does the same as
+ *     {@link io.github.almightysatan.jaskl.annotation.AnnotationManager#registerEntries}</li>
+ *     <li>{@code FooObjectMapper}, an {@link io.github.almightysatan.jaskl.ObjectMapper} whose {@code TYPE} field can
+ *     be used instead of {@link io.github.almightysatan.jaskl.Type#custom(Class)}</li>
+ * </ul>
+ * Nested classes are named after all enclosing classes, e.g. {@code Outer_InnerRegistrar}. Only the validation
+ * annotations in {@link Validate} are supported, validators registered at runtime using an
+ * {@link io.github.almightysatan.jaskl.annotation.AnnotationManager} are ignored.
+ */
+public class ConfigProcessor extends AbstractProcessor {
+
+    private static final String TYPE = "io.github.almightysatan.jaskl.Type";
+    private static final String VALIDATOR = "io.github.almightysatan.jaskl.Validator";
+
+    private Elements elements;
+    private Types types;
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Collections.singleton(Entry.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        this.elements = this.processingEnv.getElementUtils();
+        this.types = this.processingEnv.getTypeUtils();
+
+        Set<TypeElement> classes = new LinkedHashSet<>();
+        for (Element element : roundEnv.getElementsAnnotatedWith(Entry.class))
+            classes.add((TypeElement) element.getEnclosingElement());
+
+        for (TypeElement clazz : classes) {
+            try {
+                this.checkCircularReferences(clazz, new ArrayDeque<>());
+                List<Property> properties = this.loadProperties(clazz, classes);
+                this.writeRegistrar(clazz, properties);
+                this.writeObjectMapper(clazz, properties);
+            } catch (ProcessingException e) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, e.getMessage(), e.element);
+            } catch (IOException e) {
+                this.processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write generated class: " + e.getMessage(), clazz);
+            }
+        }
+        return false;
+    }
+
+    private List<Property> loadProperties(TypeElement clazz, Set<TypeElement> classes) throws ProcessingException {
+        if (clazz.getNestingKind().isNested() && !clazz.getModifiers().contains(Modifier.STATIC))
+            throw new ProcessingException(clazz, "Class %s has to be static", clazz.getSimpleName());
+        if (!clazz.getModifiers().contains(Modifier.PUBLIC) || clazz.getModifiers().contains(Modifier.ABSTRACT))
+            throw new ProcessingException(clazz, "Class %s has to be public and not abstract", clazz.getSimpleName());
+        boolean hasConstructor = false;
+        for (ExecutableElement constructor : ElementFilter.constructorsIn(clazz.getEnclosedElements()))
+            hasConstructor |= constructor.getParameters().isEmpty() && constructor.getModifiers().contains(Modifier.PUBLIC);
+        if (!hasConstructor)
+            throw new ProcessingException(clazz, "Class %s has no public no-args constructor", clazz.getSimpleName());
+
+        List<Property> properties = new ArrayList<>();
+        for (VariableElement field : ElementFilter.fieldsIn(this.elements.getAllMembers(clazz))) {
+            // Same rule as AnnotationManagerImpl: any public final field is rejected, annotated or not
+            if (field.getModifiers().contains(Modifier.PUBLIC) && field.getModifiers().contains(Modifier.FINAL))
+                throw new ProcessingException(field, "Field %s is final", field.getSimpleName());
+
+            Entry annotation = field.getAnnotation(Entry.class);
+            if (annotation == null)
+                continue;
+            if (!field.getModifiers().contains(Modifier.PUBLIC) || field.getModifiers().contains(Modifier.STATIC))
+                throw new ProcessingException(field, "Field %s has to be public and not static", field.getSimpleName());
+
+            String path = annotation.value().isEmpty() ? field.getSimpleName().toString() : annotation.value();
+            Description description = field.getAnnotation(Description.class);
+            List<? extends TypeMirror> typeHint = this.getTypeHint(field);
+            String type = typeHint != null ? this.typeExpression(field, typeHint.iterator(), classes) : this.typeExpression(field, field.asType(), classes);
+            for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+                String validator = this.validatorExpression(field, mirror);
+                if (validator != null)
+                    type = TYPE + ".validated(" + type + ", " + validator + ")";
+            }
+            properties.add(new Property(field, path, description != null ? description.value() : null, type, typeHint != null));
+        }
+
+        if (properties.isEmpty())
+            throw new ProcessingException(clazz, "No annotated fields found");
+        return properties;
+    }
+
+    private void checkCircularReferences(TypeElement clazz, Deque<TypeElement> parents) throws ProcessingException {
+        if (parents.contains(clazz))
+            throw new ProcessingException(parents.getFirst(), "Circular type references are not allowed");
+        parents.push(clazz);
+        for (VariableElement field : ElementFilter.fieldsIn(this.elements.getAllMembers(clazz))) {
+            if (field.getAnnotation(Entry.class) == null)
+                continue;
+            Deque<TypeMirror> typesToCheck = new ArrayDeque<>();
+            typesToCheck.push(field.asType());
+            while (!typesToCheck.isEmpty()) {
+                TypeMirror type = typesToCheck.pop();
+                if (type.getKind() != TypeKind.DECLARED)
+                    continue;
+                typesToCheck.addAll(((DeclaredType) type).getTypeArguments());
+                TypeElement element = (TypeElement) ((DeclaredType) type).asElement();
+                if (this.isCustomType(element))
+                    this.checkCircularReferences(element, parents);
+            }
+        }
+        parents.pop();
+    }
+
+    private List<? extends TypeMirror> getTypeHint(VariableElement field) {
+        for (AnnotationMirror mirror : field.getAnnotationMirrors()) {
+            if (!this.isAnnotation(mirror, TypeHint.class.getCanonicalName()))
+                continue;
+            List<TypeMirror> typeMirrors = new ArrayList<>();
+            for (Object value : (List<?>) this.getValue(mirror).getValue())
+                typeMirrors.add((TypeMirror) ((AnnotationValue) value).getValue());
+            return typeMirrors;
+        }
+        return null;
+    }
+
+    private String typeExpression(VariableElement field, TypeMirror type, Set<TypeElement> classes) throws ProcessingException {
+        switch (type.getKind()) {
+            case BOOLEAN:
+                return TYPE + ".BOOLEAN";
+            case DOUBLE:
+                return TYPE + ".DOUBLE";
+            case FLOAT:
+                return TYPE + ".FLOAT";
+            case INT:
+                return TYPE + ".INTEGER";
+            case LONG:
+                return TYPE + ".LONG";
+            case DECLARED:
+                DeclaredType declaredType = (DeclaredType) type;
+                TypeElement element = (TypeElement) declaredType.asElement();
+                List<? extends TypeMirror> typeArguments = declaredType.getTypeArguments();
+                String name = element.getQualifiedName().toString();
+                if (name.equals("java.util.List") && typeArguments.size() == 1)
+                    return TYPE + ".list(" + this.typeExpression(field, typeArguments.get(0), classes) + ")";
+                if (name.equals("java.util.Map") && typeArguments.size() == 2)
+                    return TYPE + ".map(" + this.typeExpression(field, typeArguments.get(0), classes) + ", "
+                            + this.typeExpression(field, typeArguments.get(1), classes) + ")";
+                String expression = this.simpleTypeExpression(element, classes);
+                if (expression != null)
+                    return expression;
+            default:
+                throw new ProcessingException(field, "Unknown type for field %s", field.getSimpleName());
+        }
+    }
+
+    private String typeExpression(VariableElement field, Iterator<? extends TypeMirror> typeHint, Set<TypeElement> classes) throws ProcessingException {
+        if (!typeHint.hasNext())
+            throw new ProcessingException(field, "Unknown type for field %s", field.getSimpleName());
+
+        TypeMirror type = this.types.erasure(typeHint.next());
+        if (type.getKind().isPrimitive())
+            return this.typeExpression(field, type, classes);
+        if (type.getKind() != TypeKind.DECLARED)
+            throw new ProcessingException(field, "Unknown type for field %s", field.getSimpleName());
+        if (this.types.isAssignable(type, this.erasure("java.util.List")))
+            return TYPE + ".list(" + this.typeExpression(field, typeHint, classes) + ")";
+        if (this.types.isAssignable(type, this.erasure("java.util.Map")))
+            return TYPE + ".map(" + this.typeExpression(field, typeHint, classes) + ", " + this.typeExpression(field, typeHint, classes) + ")";
+
+        String expression = this.simpleTypeExpression((TypeElement) ((DeclaredType) type).asElement(), classes);
+        if (expression == null)
+            throw new ProcessingException(field, "Unknown type for field %s", field.getSimpleName());
+        return expression;
+    }
+
+    private String simpleTypeExpression(TypeElement element, Set<TypeElement> classes) {
+        String name = element.getQualifiedName().toString();
+        switch (name) {
+            case "java.lang.Boolean":
+                return TYPE + ".BOOLEAN";
+            case "java.lang.Double":
+                return TYPE + ".DOUBLE";
+            case "java.lang.Float":
+                return TYPE + ".FLOAT";
+            case "java.lang.Integer":
+                return TYPE + ".INTEGER";
+            case "java.lang.Long":
+                return TYPE + ".LONG";
+            case "java.math.BigInteger":
+                return TYPE + ".BIG_INTEGER";
+            case "java.math.BigDecimal":
+                return TYPE + ".BIG_DECIMAL";
+            case "java.lang.String":
+                return TYPE + ".STRING";
+            case "java.util.UUID":
+                return TYPE + ".UUID";
+            case "java.time.Instant":
+                return TYPE + ".INSTANT";
+            case "java.time.OffsetDateTime":
+                return TYPE + ".OFFSET_DATE_TIME";
+            case "java.time.ZonedDateTime":
+                return TYPE + ".ZONED_DATE_TIME";
+            case "java.time.LocalDate":
+                return TYPE + ".LOCAL_DATE";
+            case "java.time.LocalTime":
+                return TYPE + ".LOCAL_TIME";
+            case "java.time.LocalDateTime":
+                return TYPE + ".LOCAL_DATE_TIME";
+            case "java.time.Duration":
+                return TYPE + ".DURATION";
+            case "java.time.Period":
+                return TYPE + ".PERIOD";
+        }
+        if (element.getKind() == ElementKind.ENUM)
+            return TYPE + ".enumType(" + name + ".class)";
+        if (this.isCustomType(element)) {
+            // Fall back to the reflection based type if the class is not processed in this compilation
+            String objectMapper = this.generatedName(element, "ObjectMapper");
+            if (classes.contains(element) || this.elements.getTypeElement(objectMapper) != null)
+                return objectMapper + ".TYPE";
+            return TYPE + ".custom(" + name + ".class)";
+        }
+        return null;
+    }
+
+    private String validatorExpression(VariableElement field, AnnotationMirror mirror) throws ProcessingException {
+        TypeElement annotation = (TypeElement) mirror.getAnnotationType().asElement();
+        Element enclosing = annotation.getEnclosingElement();
+        if (!(enclosing instanceof TypeElement) || !((TypeElement) enclosing).getQualifiedName().contentEquals(Validate.class.getCanonicalName()))
+            return null;
+
+        String name = annotation.getSimpleName().toString();
+        String method = VALIDATOR + "." + Character.toLowerCase(name.charAt(0)) + name.substring(1);
+        AnnotationValue annotationValue = this.getValue(mirror);
+        if (annotationValue == null)
+            return this.validatorExpression(annotation);
+
+        Object value = annotationValue.getValue();
+        if (value instanceof String) {
+            String numberClass = name.startsWith("BigInteger") ? "java.math.BigInteger" : "java.math.BigDecimal";
+            return method + "(new " + numberClass + "(" + this.elements.getConstantExpression(value) + "))";
+        }
+        if (value instanceof List) {
+            List<String> validators = new ArrayList<>();
+            for (Object validatorClass : (List<?>) value) {
+                TypeElement validatorAnnotation = (TypeElement) this.types.asElement((TypeMirror) ((AnnotationValue) validatorClass).getValue());
+                String validator = validatorAnnotation.getEnclosingElement().equals(enclosing) ? this.validatorExpression(validatorAnnotation) : null;
+                if (validator == null)
+                    throw new ProcessingException(field, "Unknown validation annotation: %s", validatorAnnotation.getQualifiedName());
+                validators.add(validator);
+            }
+            return method + "(" + VALIDATOR + ".of(" + String.join(", ", validators) + "))";
+        }
+        return method + "(" + annotationValue + ")";
+    }
+
+    private String validatorExpression(TypeElement annotation) {
+        if (!ElementFilter.methodsIn(annotation.getEnclosedElements()).isEmpty())
+            return null;
+        String name = annotation.getSimpleName().toString();
+        if (name.equals("ListNotEmpty") || name.equals("MapNotEmpty"))
+            return VALIDATOR + "." + Character.toLowerCase(name.charAt(0)) + name.substring(1) + "()";
+
+        StringBuilder constant = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (i != 0 && Character.isUpperCase(c))
+                constant.append('_');
+            constant.append(Character.toUpperCase(c));
+        }
+        return VALIDATOR + "." + constant;
+    }
+
+    private void writeRegistrar(TypeElement clazz, List<Property> properties) throws IOException {
+        String name = this.generatedName(clazz, "Registrar");
+        String className = clazz.getQualifiedName().toString();
+        StringBuilder builder = this.startClass(clazz, name);
+        builder.append("public final class ").append(this.simpleName(name)).append(" {\n\n");
+        builder.append("    private ").append(this.simpleName(name)).append("() {\n    }\n\n");
+        builder.append("    /**\n");
+        builder.append("     * Registers config entries for all annotated fields of {@link ").append(className).append("} and returns a new\n");
+        builder.append("     * instance of that class.\n");
+        builder.append("     *\n");
+        builder.append("     * @param config a config instance\n");
+        builder.append("     * @return a new instance of {@link ").append(className).append("}\n");
+        builder.append("     */\n");
+        builder.append("    @SuppressWarnings(\"unchecked\")\n");
+        builder.append("    public static ").append(className).append(" registerEntries(io.github.almightysatan.jaskl.Config config) {\n");
+        builder.append("        java.util.Objects.requireNonNull(config);\n");
+        builder.append("        ").append(className).append(" instance = new ").append(className).append("();\n");
+        for (Property property : properties) {
+            String field = "instance." + property.field.getSimpleName();
+            String valueType = this.typeName(property.field.asType());
+            if (!property.field.asType().getKind().isPrimitive()) {
+                builder.append("        if (").append(field).append(" == null)\n");
+                builder.append("            throw new io.github.almightysatan.jaskl.annotation.InvalidAnnotationConfigException(")
+                        .append(this.elements.getConstantExpression("Default value of field " + property.field.getSimpleName() + " is null")).append(");\n");
+            }
+            builder.append("        new io.github.almightysatan.jaskl.impl.FieldConfigEntry<").append(valueType).append(">(")
+                    .append(property.typeHint ? "(" + TYPE + "<" + valueType + ">) (" + TYPE + "<?>) " : "").append(property.type).append(", ")
+                    .append(this.elements.getConstantExpression(property.path)).append(", ")
+                    .append(property.description != null ? this.elements.getConstantExpression(property.description) : "null").append(", ")
+                    .append(field).append(", () -> ").append(field).append(", value -> ").append(field).append(" = value).register(config);\n");
+        }
+        builder.append("        return instance;\n");
+        builder.append("    }\n");
+        builder.append("}\n");
+        this.writeClass(clazz, name, builder);
+    }
+
+    private void writeObjectMapper(TypeElement clazz, List<Property> properties) throws IOException {
+        String name = this.generatedName(clazz, "ObjectMapper");
+        String simpleName = this.simpleName(name);
+        String className = clazz.getQualifiedName().toString();
+        StringBuilder builder = this.startClass(clazz, name);
+        builder.append("public final class ").append(simpleName).append(" implements io.github.almightysatan.jaskl.ObjectMapper<").append(className).append("> {\n\n");
+        builder.append("    private static final io.github.almightysatan.jaskl.ObjectMapper.Property<?>[] PROPERTIES = {\n");
+        for (Property property : properties)
+            builder.append("            io.github.almightysatan.jaskl.ObjectMapper.Property.of(").append(this.elements.getConstantExpression(property.path))
+                    .append(", ").append(property.type).append("),\n");
+        builder.append("    };\n\n");
+        builder.append("    /**\n");
+        builder.append("     * The {@link ").append(TYPE).append("} of {@link ").append(className).append("}.\n");
+        builder.append("     */\n");
+        builder.append("    public static final ").append(TYPE).append("<").append(className).append("> TYPE = ").append(TYPE).append(".custom(new ").append(simpleName).append("());\n\n");
+        builder.append("    @Override\n");
+        builder.append("    @SuppressWarnings(\"unchecked\")\n");
+        builder.append("    public ").append(className).append(" createInstance(java.util.Map<String, Object> values) {\n");
+        builder.append("        ").append(className).append(" instance = new ").append(className).append("();\n");
+        for (Property property : properties)
+            builder.append("        instance.").append(property.field.getSimpleName()).append(" = (").append(this.typeName(property.field.asType())).append(") values.get(")
+                    .append(this.elements.getConstantExpression(property.path)).append(");\n");
+        builder.append("        return instance;\n");
+        builder.append("    }\n\n");
+        builder.append("    @Override\n");
+        builder.append("    public java.util.Map<String, Object> readValues(").append(className).append(" instance) {\n");
+        builder.append("        java.util.Map<String, Object> values = new java.util.HashMap<>();\n");
+        for (Property property : properties)
+            builder.append("        values.put(").append(this.elements.getConstantExpression(property.path)).append(", instance.").append(property.field.getSimpleName()).append(");\n");
+        builder.append("        return java.util.Collections.unmodifiableMap(values);\n");
+        builder.append("    }\n\n");
+        builder.append("    @Override\n");
+        builder.append("    public Class<").append(className).append("> getObjectClass() {\n");
+        builder.append("        return ").append(className).append(".class;\n");
+        builder.append("    }\n\n");
+        builder.append("    @Override\n");
+        builder.append("    public io.github.almightysatan.jaskl.ObjectMapper.Property<?>[] getProperties() {\n");
+        builder.append("        return PROPERTIES.clone();\n");
+        builder.append("    }\n");
+        builder.append("}\n");
+        this.writeClass(clazz, name, builder);
+    }
+
+    private StringBuilder startClass(TypeElement clazz, String name) {
+        StringBuilder builder = new StringBuilder();
+        String packageName = this.elements.getPackageOf(clazz).getQualifiedName().toString();
+        if (!packageName.isEmpty())
+            builder.append("package ").append(packageName).append(";\n\n");
+        builder.append("// Generated by the JASKL annotation processor from ").append(clazz.getQualifiedName()).append(", do not edit\n");
+        return builder;
+    }
+
+    private void writeClass(TypeElement clazz, String name, StringBuilder builder) throws IOException {
+        try (Writer writer = this.processingEnv.getFiler().createSourceFile(name, clazz).openWriter()) {
+            writer.write(builder.toString());
+        }
+    }
+
+    private String generatedName(TypeElement clazz, String suffix) {
+        StringBuilder name = new StringBuilder(clazz.getSimpleName());
+        for (Element element = clazz.getEnclosingElement(); element instanceof TypeElement; element = element.getEnclosingElement())
+            name.insert(0, element.getSimpleName() + "_");
+        String packageName = this.elements.getPackageOf(clazz).getQualifiedName().toString();
+        return (packageName.isEmpty() ? "" : packageName + ".") + name + suffix;
+    }
+
+    private String simpleName(String qualifiedName) {
+        return qualifiedName.substring(qualifiedName.lastIndexOf('.') + 1);
+    }
+
+    /**
+     * Returns the source representation of a type. Primitives are boxed and type annotations are omitted.
+     */
+    private String typeName(TypeMirror type) {
+        if (type.getKind().isPrimitive())
+            return this.types.boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        if (type.getKind() == TypeKind.WILDCARD) {
+            WildcardType wildcardType = (WildcardType) type;
+            if (wildcardType.getExtendsBound() != null)
+                return "? extends " + this.typeName(wildcardType.getExtendsBound());
+            if (wildcardType.getSuperBound() != null)
+                return "? super " + this.typeName(wildcardType.getSuperBound());
+            return "?";
+        }
+        if (type.getKind() == TypeKind.DECLARED) {
+            DeclaredType declaredType = (DeclaredType) type;
+            StringBuilder name = new StringBuilder(((TypeElement) declaredType.asElement()).getQualifiedName());
+            if (!declaredType.getTypeArguments().isEmpty()) {
+                StringJoiner arguments = new StringJoiner(", ", "<", ">");
+                for (TypeMirror argument : declaredType.getTypeArguments())
+                    arguments.add(this.typeName(argument));
+                name.append(arguments);
+            }
+            return name.toString();
+        }
+        return type.toString();
+    }
+
+    private boolean isCustomType(TypeElement element) {
+        for (VariableElement field : ElementFilter.fieldsIn(this.elements.getAllMembers(element)))
+            if (field.getAnnotation(Entry.class) != null)
+                return true;
+        return false;
+    }
+
+    private boolean isAnnotation(AnnotationMirror mirror, String name) {
+        return ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().contentEquals(name);
+    }
+
+    private AnnotationValue getValue(AnnotationMirror mirror) {
+        for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> entry : this.elements.getElementValuesWithDefaults(mirror).entrySet())
+            if (entry.getKey().getSimpleName().contentEquals("value"))
+                return entry.getValue();
+        return null;
+    }
+
+    private TypeMirror erasure(String className) {
+        return this.types.erasure(this.elements.getTypeElement(className).asType());
+    }
+
+    private static class Property {
+
+        private final VariableElement field;
+        private final String path;
+        private final String description;
+        private final String type;
+        private final boolean typeHint;
+
+        private Property(VariableElement field, String path, String description, String type, boolean typeHint) {
+            this.field = field;
+            this.path = path;
+            this.description = description;
+            this.type = type;
+            this.typeHint = typeHint;
+        }
+    }
+
+    private static class ProcessingException extends Exception {
+
+        private final Element element;
+
+        private ProcessingException(Element element, String message, Object... args) {
+            super(String.format(message, args));
+            this.element = element;
+        }
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.processor;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ValidationException;
+import io.github.almightysatan.jaskl.annotation.InvalidAnnotationConfigException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+public class ConfigProcessorTest {
+
+    @Test
+    public void testRegistrar() {
+        MapConfigImpl config = new MapConfigImpl();
+        ExampleProcessedConfig instance = ExampleProcessedConfigRegistrar.registerEntries(config);
+        config.load();
+
+        Assertions.assertEquals(8, config.getPaths().size());
+        Assertions.assertEquals("Example boolean description", config.getEntries("exampleBoolean").iterator().next().getDescription());
+        Assertions.assertTrue(config.getPaths().contains("example.integer"));
+
+        instance.exampleInteger = 10;
+        instance.exampleString = "World";
+        instance.exampleObject.name = "modified";
+        config.write();
+
+        Assertions.assertEquals(10, config.getValues().get("example.integer"));
+        Assertions.assertEquals("World", config.getValues().get("exampleString"));
+        Assertions.assertEquals("modified", ((Map<?, ?>) config.getValues().get("exampleObject")).get("name"));
+
+        MapConfigImpl config1 = new MapConfigImpl();
+        config1.getValues().putAll(config.getValues());
+        ExampleProcessedConfig instance1 = ExampleProcessedConfigRegistrar.registerEntries(config1);
+        config1.load();
+
+        Assertions.assertEquals(10, instance1.exampleInteger);
+        Assertions.assertEquals("World", instance1.exampleString);
+        Assertions.assertEquals(instance.exampleObject, instance1.exampleObject);
+    }
+
+    @Test
+    public void testRegistrarValidation() {
+        MapConfigImpl config = new MapConfigImpl();
+        config.getValues().put("example.integer", -1);
+        ExampleProcessedConfigRegistrar.registerEntries(config);
+        Assertions.assertThrows(ValidationException.class, config::load);
+
+        MapConfigImpl config1 = new MapConfigImpl();
+        config1.getValues().put("exampleBigDecimal", new BigDecimal("1.5"));
+        ExampleProcessedConfigRegistrar.registerEntries(config1);
+        Assertions.assertThrows(ValidationException.class, config1::load);
+
+        MapConfigImpl config2 = new MapConfigImpl();
+        config2.getValues().put("exampleList", Arrays.asList("a", ""));
+        ExampleProcessedConfigRegistrar.registerEntries(config2);
+        Assertions.assertThrows(ValidationException.class, config2::load);
+    }
+
+    @Test
+    public void testRegistrarNullDefault() {
+        Config config = new MapConfigImpl();
+        Assertions.assertThrows(InvalidAnnotationConfigException.class, () -> ConfigProcessorTest_NullDefaultConfigRegistrar.registerEntries(config));
+    }
+
+    @Test
+    public void testObjectMapper() {
+        ExampleProcessedConfig.ExampleObject object = new ExampleProcessedConfig.ExampleObject();
+        object.name = "test";
+        object.value = 42;
+
+        Object writable = ExampleProcessedConfig_ExampleObjectObjectMapper.TYPE.toWritable(object, key -> key);
+        Map<String, Object> expected = new HashMap<>();
+        expected.put("name", "test");
+        expected.put("value", 42L);
+        Assertions.assertEquals(expected, writable);
+        Assertions.assertEquals(object, ExampleProcessedConfig_ExampleObjectObjectMapper.TYPE.toEntryType(writable));
+
+        Map<String, Object> invalid = new HashMap<>(expected);
+        invalid.put("value", -1L);
+        Assertions.assertThrows(ValidationException.class, () -> ExampleProcessedConfig_ExampleObjectObjectMapper.TYPE.toEntryType(invalid));
+    }
+
+    public static class NullDefaultConfig {
+
+        @io.github.almightysatan.jaskl.annotation.Entry
+        public String nullString;
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.processor;
+
+import io.github.almightysatan.jaskl.annotation.Description;
+import io.github.almightysatan.jaskl.annotation.Entry;
+import io.github.almightysatan.jaskl.annotation.TypeHint;
+import io.github.almightysatan.jaskl.annotation.Validate;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+public class ExampleProcessedConfig {
+
+    @Entry
+    @Description("Example boolean description")
+    public boolean exampleBoolean = true;
+    @Entry("example.integer")
+    @Validate.IntegerPositive
+    public int exampleInteger = 5;
+    @Entry
+    @Validate.BigDecimalGreater("1.5")
+    public BigDecimal exampleBigDecimal = new BigDecimal("2.5");
+    @Entry
+    @Validate.StringNotEmpty
+    public String exampleString = "Hello";
+    @Entry
+    @Validate.ListForEach(Validate.StringNotEmpty.class)
+    public List<String> exampleList = Arrays.asList("a", "b");
+    @Entry
+    @TypeHint({HashMap.class, String.class, Integer.class})
+    public Map<String, Integer> exampleMap = Collections.singletonMap("key", 1);
+    @Entry
+    public ExampleObject exampleObject = new ExampleObject();
+    @Entry
+    public List<ExampleObject> exampleObjectList = Collections.singletonList(new ExampleObject());
+
+    public static class ExampleObject {
+
+        @Entry
+        public String name = "name";
+        @Entry
+        @Validate.LongNotNegative
+        public long value = 1;
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            ExampleObject that = (ExampleObject) o;
+            return value == that.value && Objects.equals(name, that.name);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(name, value);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.processor;
+
+import io.github.almightysatan.jaskl.impl.ConfigImpl;
+import io.github.almightysatan.jaskl.impl.WritableConfigEntry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Keeps written values in memory.
+ */
+public class MapConfigImpl extends ConfigImpl {
+
+    private final Map<String, Object> values = new HashMap<>();
+
+    public MapConfigImpl() {
+        super(null, null, null, false);
+    }
+
+    @Override
+    public void load() {
+        this.reload();
+    }
+
+    @Override
+    public void reload() {
+        this.updateValues(() -> {
+            for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
+                Object value = this.values.get(configEntry.getPath());
+                if (value != null)
+                    configEntry.putValue(value, this.getExceptionHandler());
+            }
+        });
+    }
+
+    @Override
+    public void write() {
+        for (WritableConfigEntry<?> configEntry : this.getCastedValues())
+            if (configEntry.isModified())
+                this.values.put(configEntry.getPath(), configEntry.getValueToWrite(key -> key));
+    }
+
+    @Override
+    public @Unmodifiable @NotNull Set<@NotNull String> prune() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public void close() {
+        this.flushPendingWrite();
+    }
+
+    public @NotNull Map<String, Object> getValues() {
+        return this.values;
+    }
+}
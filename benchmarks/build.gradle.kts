@@ -0,0 +1,28 @@
+plugins {
+    id("java")
+    alias(libs.plugins.jmh)
+}
+
+repositories {
+    mavenCentral()
+}
+
+java {
+    sourceCompatibility = JavaVersion.VERSION_1_8
+    targetCompatibility = JavaVersion.VERSION_1_8
+}
+
+dependencies {
+    jmhCompileOnly(libs.annotations)
+    jmh(project(":core"))
+    jmh(project(":json"))
+    jmh(project(":yaml"))
+    jmh(project(":toml"))
+    jmh(project(":hocon"))
+    jmh(project(":properties"))
+}
+
+jmh {
+    jmhVersion.set(libs.versions.jmh)
+    profilers.add("gc")
+}
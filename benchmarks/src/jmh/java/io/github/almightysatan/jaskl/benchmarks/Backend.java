@@ -0,0 +1,89 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.benchmarks;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.hocon.HoconConfig;
+import io.github.almightysatan.jaskl.json.JsonConfig;
+import io.github.almightysatan.jaskl.properties.PropertiesConfig;
+import io.github.almightysatan.jaskl.toml.TomlConfig;
+import io.github.almightysatan.jaskl.yaml.YamlConfig;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+
+/**
+ * The file based config implementations covered by the benchmarks.
+ */
+public enum Backend {
+
+    JSON("json") {
+        @Override
+        public @NotNull Config create(@NotNull File file) {
+            return JsonConfig.of(file);
+        }
+    },
+    YAML("yaml") {
+        @Override
+        public @NotNull Config create(@NotNull File file) {
+            return YamlConfig.of(file);
+        }
+    },
+    TOML("toml") {
+        @Override
+        public @NotNull Config create(@NotNull File file) {
+            return TomlConfig.of(file);
+        }
+    },
+    HOCON("conf") {
+        @Override
+        public @NotNull Config create(@NotNull File file) {
+            return HoconConfig.of(file);
+        }
+    },
+    PROPERTIES("properties") {
+        @Override
+        public @NotNull Config create(@NotNull File file) {
+            return PropertiesConfig.of(file);
+        }
+
+        @Override
+        public boolean supports(@NotNull Shape shape) {
+            return shape == Shape.FLAT || shape == Shape.NESTED;
+        }
+    };
+
+    private final String extension;
+
+    Backend(@NotNull String extension) {
+        this.extension = extension;
+    }
+
+    public abstract @NotNull Config create(@NotNull File file);
+
+    public boolean supports(@NotNull Shape shape) {
+        return true;
+    }
+
+    public @NotNull String getExtension() {
+        return this.extension;
+    }
+}
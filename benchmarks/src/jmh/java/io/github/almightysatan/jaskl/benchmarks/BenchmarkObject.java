@@ -0,0 +1,59 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.benchmarks;
+
+import io.github.almightysatan.jaskl.annotation.Entry;
+
+import java.util.Objects;
+
+public class BenchmarkObject {
+
+    @Entry
+    public String name;
+    @Entry
+    public int count;
+    @Entry
+    public double ratio;
+    @Entry
+    public boolean enabled;
+
+    public BenchmarkObject() {}
+
+    public BenchmarkObject(String name, int count, double ratio, boolean enabled) {
+        this.name = name;
+        this.count = count;
+        this.ratio = ratio;
+        this.enabled = enabled;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        BenchmarkObject that = (BenchmarkObject) o;
+        return count == that.count && Double.compare(ratio, that.ratio) == 0 && enabled == that.enabled && Objects.equals(name, that.name);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(name, count, ratio, enabled);
+    }
+}
@@ -0,0 +1,263 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.benchmarks;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ConfigEntry;
+import io.github.almightysatan.jaskl.entries.StringConfigEntry;
+import org.jetbrains.annotations.NotNull;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Config#load()}, {@link Config#reload()}, {@link Config#write()}, {@link Config#prune()} and
+ * {@link ConfigEntry#getValue()} for every file based backend and {@link Shape}. Allocation rates are reported by the
+ * gc profiler which is enabled in the build script. A single combination can be selected with JMH's parameter
+ * options, e.g. {@code -p combination=YAML:NESTED -p size=1000}. Only combinations supported by the backend are
+ * benchmarked, {@link Backend#PROPERTIES} does not support lists, maps and custom objects.
+ * <p>
+ * {@link #write(Modified)} and {@link #prune(Prunable)} change the state they operate on, so it is restored before
+ * every call. To keep the restoring out of the measurement, these benchmarks measure a single call per iteration.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ConfigBenchmark {
+
+    /**
+     * Generates the config files used by all benchmarks.
+     */
+    @State(Scope.Benchmark)
+    public static class Source {
+
+        @Param({"JSON:FLAT", "JSON:NESTED", "JSON:COLLECTIONS", "JSON:CUSTOM",
+                "YAML:FLAT", "YAML:NESTED", "YAML:COLLECTIONS", "YAML:CUSTOM",
+                "TOML:FLAT", "TOML:NESTED", "TOML:COLLECTIONS", "TOML:CUSTOM",
+                "HOCON:FLAT", "HOCON:NESTED", "HOCON:COLLECTIONS", "HOCON:CUSTOM",
+                "PROPERTIES:FLAT", "PROPERTIES:NESTED"})
+        public String combination; // <backend>:<shape>
+
+        @Param({"10", "1000", "100000"})
+        public int size;
+
+        private Backend backend;
+        private Shape shape;
+        private byte[] content;
+        private byte[] pruneContent;
+        private File file;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException {
+            String[] combination = this.combination.split(":");
+            this.backend = Backend.valueOf(combination[0]);
+            this.shape = Shape.valueOf(combination[1]);
+            if (!this.backend.supports(this.shape))
+                throw new UnsupportedOperationException(this.backend + " does not support " + this.shape);
+
+            File file = this.createFile(null);
+            ConfigEntry<?>[] entries = new ConfigEntry<?>[this.size];
+            Config config = this.createConfig(file, entries);
+            config.load();
+            setValues(entries, this.shape, true);
+            config.write();
+            config.close();
+            this.content = Files.readAllBytes(file.toPath());
+
+            // Same file with an additional 10% of entries that are not registered
+            Config pruneConfig = this.backend.create(file);
+            for (int i = 0; i <= this.size / 10; i++)
+                StringConfigEntry.of(pruneConfig, "dead.entry" + i, "dead");
+            pruneConfig.load();
+            pruneConfig.write();
+            pruneConfig.close();
+            this.pruneContent = Files.readAllBytes(file.toPath());
+
+            Files.write(file.toPath(), this.content);
+            this.file = file;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.file.delete();
+        }
+
+        @NotNull File createFile(byte[] content) throws IOException {
+            File file = File.createTempFile("jaskl-benchmark", "." + this.backend.getExtension());
+            file.deleteOnExit();
+            if (content != null)
+                Files.write(file.toPath(), content);
+            else
+                file.delete();
+            return file;
+        }
+
+        @NotNull Config createConfig(@NotNull File file, @NotNull ConfigEntry<?> @NotNull [] entries) {
+            Config config = this.backend.create(file);
+            for (int i = 0; i < entries.length; i++)
+                entries[i] = this.shape.register(config, i);
+            return config;
+        }
+    }
+
+    /**
+     * A loaded config that is only read.
+     */
+    @State(Scope.Thread)
+    public static class Loaded {
+
+        private Config config;
+        private ConfigEntry<?>[] entries;
+
+        @Setup(Level.Trial)
+        public void setup(Source source) throws IOException {
+            this.entries = new ConfigEntry<?>[source.size];
+            this.config = source.createConfig(source.file, this.entries);
+            this.config.load();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.config.close();
+        }
+    }
+
+    /**
+     * A loaded config whose entries are all modified before every iteration.
+     */
+    @State(Scope.Thread)
+    public static class Modified {
+
+        private Shape shape;
+        private File file;
+        private Config config;
+        private ConfigEntry<?>[] entries;
+        private boolean variant;
+
+        @Setup(Level.Trial)
+        public void setup(Source source) throws IOException {
+            this.shape = source.shape;
+            this.file = source.createFile(source.content);
+            this.entries = new ConfigEntry<?>[source.size];
+            this.config = source.createConfig(this.file, this.entries);
+            this.config.load();
+        }
+
+        @Setup(Level.Iteration)
+        public void modify() {
+            setValues(this.entries, this.shape, this.variant);
+            this.variant = !this.variant;
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.config.close();
+            this.file.delete();
+        }
+    }
+
+    /**
+     * A loaded config whose storage location contains dead entries before every iteration.
+     */
+    @State(Scope.Thread)
+    public static class Prunable {
+
+        private Source source;
+        private File file;
+        private Config config;
+
+        @Setup(Level.Trial)
+        public void setup(Source source) throws IOException {
+            this.source = source;
+            this.file = source.createFile(source.pruneContent);
+        }
+
+        @Setup(Level.Iteration)
+        public void restore() throws IOException {
+            Files.write(this.file.toPath(), this.source.pruneContent);
+            this.config = this.source.createConfig(this.file, new ConfigEntry<?>[this.source.size]);
+            this.config.load();
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() {
+            this.config.close();
+        }
+
+        @TearDown(Level.Trial)
+        public void tearDown() {
+            this.file.delete();
+        }
+    }
+
+    /**
+     * Creates a new config, registers all entries and loads it.
+     */
+    @Benchmark
+    public Config load(Source source) throws IOException {
+        Config config = source.createConfig(source.file, new ConfigEntry<?>[source.size]);
+        config.load();
+        config.close();
+        return config;
+    }
+
+    @Benchmark
+    public Config reload(Loaded loaded) throws IOException {
+        loaded.config.reload();
+        return loaded.config;
+    }
+
+    @Benchmark
+    public void getValue(Loaded loaded, Blackhole blackhole) {
+        for (ConfigEntry<?> entry : loaded.entries)
+            blackhole.consume(entry.getValue());
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = 1)
+    @Measurement(iterations = 50, batchSize = 1)
+    public Config write(Modified modified) throws IOException {
+        modified.config.write();
+        return modified.config;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 10, batchSize = 1)
+    @Measurement(iterations = 50, batchSize = 1)
+    public Set<String> prune(Prunable prunable) throws IOException {
+        return prunable.config.prune();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void setValues(@NotNull ConfigEntry<?> @NotNull [] entries, @NotNull Shape shape, boolean variant) {
+        for (int i = 0; i < entries.length; i++)
+            ((ConfigEntry<Object>) entries[i]).setValue(shape.value(i, variant));
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.benchmarks;
+
+import io.github.almightysatan.jaskl.impl.ConfigImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Collections;
+import java.util.Set;
+
+/**
+ * A config without a storage location, used to measure the cost of the entries themselves.
+ */
+public class MemoryConfig extends ConfigImpl {
+
+    public MemoryConfig(boolean atomicReload) {
+        super(null, null, null, atomicReload);
+    }
+
+    @Override
+    public void load() {
+    }
+
+    @Override
+    public void reload() {
+    }
+
+    @Override
+    public void write() {
+    }
+
+    @Override
+    public @Unmodifiable @NotNull Set<@NotNull String> prune() {
+        return Collections.emptySet();
+    }
+
+    @Override
+    public void close() {
+    }
+}
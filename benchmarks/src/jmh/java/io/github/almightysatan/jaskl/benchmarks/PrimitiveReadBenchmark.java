@@ -0,0 +1,110 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.benchmarks;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.entries.*;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading primitive entries via {@link io.github.almightysatan.jaskl.ConfigEntry#getValue()} and via the
+ * primitive accessors. Run with the gc profiler ({@code ./gradlew :benchmarks:jmh}); {@code gc.alloc.rate.norm}
+ * should be 0 B/op for all primitive accessors.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PrimitiveReadBenchmark {
+
+    @Param({"false", "true"})
+    public boolean atomicReload;
+
+    private IntegerConfigEntry integerEntry;
+    private LongConfigEntry longEntry;
+    private DoubleConfigEntry doubleEntry;
+    private FloatConfigEntry floatEntry;
+    private BooleanConfigEntry booleanEntry;
+
+    @Setup
+    public void setup() {
+        Config config = new MemoryConfig(this.atomicReload);
+        this.integerEntry = IntegerConfigEntry.of(config, "rate.limit", 1000);
+        this.longEntry = LongConfigEntry.of(config, "timeout.millis", 30_000L);
+        this.doubleEntry = DoubleConfigEntry.of(config, "sampling.ratio", 0.25D);
+        this.floatEntry = FloatConfigEntry.of(config, "load.factor", 0.75F);
+        this.booleanEntry = BooleanConfigEntry.of(config, "feature.enabled", true);
+    }
+
+    @Benchmark
+    public int getInt() {
+        return this.integerEntry.getInt();
+    }
+
+    @Benchmark
+    public int getIntBoxed() {
+        return this.integerEntry.getValue();
+    }
+
+    @Benchmark
+    public long getLong() {
+        return this.longEntry.getLong();
+    }
+
+    @Benchmark
+    public long getLongBoxed() {
+        return this.longEntry.getValue();
+    }
+
+    @Benchmark
+    public double getDouble() {
+        return this.doubleEntry.getDouble();
+    }
+
+    @Benchmark
+    public double getDoubleBoxed() {
+        return this.doubleEntry.getValue();
+    }
+
+    @Benchmark
+    public float getFloat() {
+        return this.floatEntry.getFloat();
+    }
+
+    @Benchmark
+    public float getFloatBoxed() {
+        return this.floatEntry.getValue();
+    }
+
+    @Benchmark
+    public boolean getBoolean() {
+        return this.booleanEntry.getBoolean();
+    }
+
+    @Benchmark
+    public boolean getBooleanBoxed() {
+        return this.booleanEntry.getValue();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.benchmarks;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ConfigEntry;
+import io.github.almightysatan.jaskl.Type;
+import io.github.almightysatan.jaskl.entries.*;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * The different kinds of generated configs. Every shape registers one entry per index and provides two distinct values
+ * for each entry so benchmarks can force entries to be modified.
+ */
+public enum Shape {
+
+    /**
+     * String entries directly below the root.
+     */
+    FLAT {
+        @Override
+        public @NotNull ConfigEntry<?> register(@NotNull Config config, int index) {
+            return StringConfigEntry.of(config, "entry" + index, (String) this.value(index, false));
+        }
+
+        @Override
+        public @NotNull Object value(int index, boolean variant) {
+            return (variant ? "variant-" : "value-") + index;
+        }
+    },
+    /**
+     * Integer entries five levels deep.
+     */
+    NESTED {
+        @Override
+        public @NotNull ConfigEntry<?> register(@NotNull Config config, int index) {
+            String path = "level" + index / 10000 + ".level" + index / 1000 % 10 + ".level" + index / 100 % 10 + ".level" + index / 10 % 10 + ".entry" + index;
+            return IntegerConfigEntry.of(config, path, (Integer) this.value(index, false));
+        }
+
+        @Override
+        public @NotNull Object value(int index, boolean variant) {
+            return variant ? -index : index;
+        }
+    },
+    /**
+     * Alternating list and map entries with five elements each.
+     */
+    COLLECTIONS {
+        @SuppressWarnings("unchecked")
+        @Override
+        public @NotNull ConfigEntry<?> register(@NotNull Config config, int index) {
+            if (index % 2 == 0)
+                return ListConfigEntry.of(config, "list" + index, (List<String>) this.value(index, false), Type.STRING);
+            return MapConfigEntry.of(config, "map" + index, (Map<String, Integer>) this.value(index, false), Type.STRING, Type.INTEGER);
+        }
+
+        @Override
+        public @NotNull Object value(int index, boolean variant) {
+            String prefix = variant ? "variant" : "value";
+            if (index % 2 == 0) {
+                List<String> list = new ArrayList<>();
+                for (int i = 0; i < 5; i++)
+                    list.add(prefix + index + "-" + i);
+                return list;
+            }
+            Map<String, Integer> map = new HashMap<>();
+            for (int i = 0; i < 5; i++)
+                map.put(prefix + i, variant ? -index : index);
+            return map;
+        }
+    },
+    /**
+     * Annotation based custom objects, see {@link BenchmarkObject}.
+     */
+    CUSTOM {
+        @Override
+        public @NotNull ConfigEntry<?> register(@NotNull Config config, int index) {
+            return CustomConfigEntry.of(config, "object" + index, (BenchmarkObject) this.value(index, false));
+        }
+
+        @Override
+        public @NotNull Object value(int index, boolean variant) {
+            return new BenchmarkObject((variant ? "variant-" : "value-") + index, index, index + 0.5D, variant);
+        }
+    };
+
+    public abstract @NotNull ConfigEntry<?> register(@NotNull Config config, int index);
+
+    public abstract @NotNull Object value(int index, boolean variant);
+}
@@ -0,0 +1,55 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+
+/**
+ * A {@link Writer} or {@link OutputStream} whose content only replaces the content of its resource once it has been
+ * committed. Closing it without committing discards the written content, so a failed write leaves the resource
+ * untouched.
+ */
+public interface Committable {
+
+    /**
+     * Flushes all written content, replaces the content of the resource and closes this writer or stream.
+     *
+     * @throws IOException if an I/O exception occurs. The resource is left untouched in this case.
+     */
+    void commit() throws IOException;
+
+    /**
+     * Commits the given writer or stream if it is {@link Committable}. Has to be called once the whole content has
+     * been written successfully and before the writer or stream is closed.
+     *
+     * @param closeable the writer or stream
+     * @throws IOException if an I/O exception occurs
+     */
+    static void commit(@NotNull Closeable closeable) throws IOException {
+        if (closeable instanceof Committable)
+            ((Committable) closeable).commit();
+    }
+}
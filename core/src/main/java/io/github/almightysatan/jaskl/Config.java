@@ -20,15 +20,16 @@
 
 package io.github.almightysatan.jaskl;
 
+import io.github.almightysatan.jaskl.impl.ConfigLoader;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.io.IOException;
-import java.util.Collection;
-import java.util.Map;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public interface Config extends AutoCloseable {
 
@@ -54,6 +55,22 @@ public interface Config extends AutoCloseable {
      */
     void reload() throws IOException, IllegalStateException, InvalidTypeException, ValidationException;
 
+    /**
+     * Reloads the config only if its storage location changed since the last call of this method. Changes are detected
+     * using {@link Resource#getFingerprint()}, which only compares the size and modification time of files. Configs
+     * that are not backed by a {@link Resource} are always reloaded. The first call always reloads the config.
+     *
+     * @return {@code true} if the config has been reloaded, {@code false} if nothing changed
+     * @throws IOException           if an I/O exception occurs.
+     * @throws IllegalStateException if {@link Config#load()} hasn't been called.
+     * @throws InvalidTypeException  if a value does not match its expected {@link Type}
+     * @throws ValidationException   if a value fails validation
+     */
+    default boolean reloadIfChanged() throws IOException, IllegalStateException, InvalidTypeException, ValidationException {
+        this.reload();
+        return true;
+    }
+
     /**
      * Saves the configuration to it's corresponding data storage location.
      *
@@ -64,6 +81,34 @@ public interface Config extends AutoCloseable {
      */
     void write() throws IOException, InvalidTypeException, ValidationException, UnsupportedOperationException;
 
+    /**
+     * Schedules a {@link #write()} in 100 milliseconds. See {@link #writeAsync(long)}.
+     *
+     * @return a future that is completed once the config has been written
+     */
+    default @NotNull CompletableFuture<Void> writeAsync() {
+        return this.writeAsync(100);
+    }
+
+    /**
+     * Schedules a {@link #write()} on a background thread after the given delay. If a write is already pending, no
+     * additional write is scheduled and the future of the pending write is returned instead. All changes made until
+     * the pending write starts are written at once. Pending writes are written when the config is
+     * {@link #close() closed}.
+     * <p>
+     * By default, asynchronous writes are executed sequentially by a single background thread shared by all configs.
+     * Implementations may write using their own executor instead. Asynchronous writes are serialized with calls to {@link #write()}, {@link #reload()} and {@link #prune()}, so these methods may be called
+     * from other threads at any time.
+     *
+     * @param delayMillis the maximum time in milliseconds to wait for further changes before writing
+     * @return a future that is completed once the config has been written or completed exceptionally with the
+     * exception thrown by {@link #write()}
+     * @throws UnsupportedOperationException if this config does not support asynchronous writes
+     */
+    default @NotNull CompletableFuture<Void> writeAsync(long delayMillis) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Cleans up dead entries from the storage location.
      * An entry is considered dead if no {@link ConfigEntry} references its path.
@@ -95,7 +140,27 @@ public interface Config extends AutoCloseable {
     void reset();
 
     /**
-     * Closes the corresponding data storage location.
+     * Adds a listener that is called whenever the values of this config's entries change.
+     *
+     * @param listener the listener
+     * @throws UnsupportedOperationException if this config does not support listeners
+     */
+    default void addListener(@NotNull ConfigListener listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addListener(ConfigListener)}.
+     *
+     * @param listener the listener
+     * @throws UnsupportedOperationException if this config does not support listeners
+     */
+    default void removeListener(@NotNull ConfigListener listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Writes pending {@link #writeAsync(long) asynchronous writes} and closes the corresponding data storage location.
      */
     void close();
 
@@ -134,4 +199,50 @@ public interface Config extends AutoCloseable {
      * @return a collection of all {@link ConfigEntry config entries}
      */
     @UnmodifiableView @NotNull Collection<@NotNull ConfigEntry<?>> getEntries();
+
+    /**
+     * Returns a collection of all {@link ConfigEntry config entries} whose path either equals the given path or starts
+     * with the given path followed by a dot. For example {@code getEntries("server.http")} returns the entries
+     * {@code server.http.port} and {@code server.http.host.name} but not {@code server.https}.
+     * <p>
+     * The default implementation iterates over all entries, implementations may use an index instead.
+     *
+     * @param path the case-sensitive dotted path
+     * @return a collection of all {@link ConfigEntry config entries} in the given subtree
+     */
+    default @Unmodifiable @NotNull Collection<@NotNull ConfigEntry<?>> getEntries(@NotNull String path) {
+        Objects.requireNonNull(path);
+        String prefix = path + ".";
+        List<ConfigEntry<?>> entries = new ArrayList<>();
+        for (ConfigEntry<?> entry : this.getEntries())
+            if (entry.getPath().equals(path) || entry.getPath().startsWith(prefix))
+                entries.add(entry);
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Loads multiple configs concurrently by calling {@link Config#load()} for each of them. Uses virtual threads on
+     * Java 21 or newer and a thread pool with one thread per processor otherwise. All configs are loaded even if some
+     * of them fail.
+     *
+     * @param configs the configs to load
+     * @throws ConfigLoadException if at least one config could not be loaded. This includes {@link InvalidTypeException
+     *                             InvalidTypeExceptions} and {@link ValidationException ValidationExceptions}.
+     */
+    static void loadAll(@NotNull Collection<? extends @NotNull Config> configs) throws ConfigLoadException {
+        ConfigLoader.loadAll(configs);
+    }
+
+    /**
+     * Loads multiple configs concurrently using the given {@link Executor}. All configs are loaded even if some of them
+     * fail.
+     *
+     * @param configs  the configs to load
+     * @param executor the executor used to call {@link Config#load()}
+     * @throws ConfigLoadException if at least one config could not be loaded. This includes {@link InvalidTypeException
+     *                             InvalidTypeExceptions} and {@link ValidationException ValidationExceptions}.
+     */
+    static void loadAll(@NotNull Collection<? extends @NotNull Config> configs, @NotNull Executor executor) throws ConfigLoadException {
+        ConfigLoader.loadAll(configs, executor);
+    }
 }
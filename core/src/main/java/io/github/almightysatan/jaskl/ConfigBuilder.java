@@ -46,6 +46,24 @@ public interface ConfigBuilder<T, U> {
      */
     @NotNull U withExceptionHandler(@Nullable ExceptionHandler exceptionHandler);
 
+    /**
+     * Enables or disables atomic reloads for the resulting config. If enabled, {@link Config#load()} and
+     * {@link Config#reload()} put all new values into a copy of the current values and publish them at once. Threads
+     * reading entries while the config is being reloaded never block and never observe a mix of old and new values.
+     * If reloading fails no values are changed. Updating a single entry copies all values of the config, so this
+     * should only be enabled for configs that are mostly read. Disabled by default.
+     *
+     * @param atomicReload {@code true} to enable atomic reloads
+     * @return This builder
+     * @throws UnsupportedOperationException if atomic reloads are enabled but not supported by this builder
+     */
+    @SuppressWarnings("unchecked")
+    default @NotNull U withAtomicReload(boolean atomicReload) {
+        if (atomicReload)
+            throw new UnsupportedOperationException();
+        return (U) this;
+    }
+
     /**
      * A builder that can be used to create new {@link Config} instances that support comments.
      *
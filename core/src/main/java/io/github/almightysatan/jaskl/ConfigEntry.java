@@ -70,6 +70,26 @@ public interface ConfigEntry<T> {
      */
     void reset();
 
+    /**
+     * Adds a listener that is called whenever the value of this ConfigEntry changes.
+     *
+     * @param listener the listener
+     * @throws UnsupportedOperationException if this ConfigEntry does not support listeners
+     */
+    default void addListener(@NotNull EntryListener<? super T> listener) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * Removes a listener previously added with {@link #addListener(EntryListener)}.
+     *
+     * @param listener the listener
+     * @throws UnsupportedOperationException if this ConfigEntry does not support listeners
+     */
+    default void removeListener(@NotNull EntryListener<? super T> listener) {
+        throw new UnsupportedOperationException();
+    }
+
     /**
      * Creates a new config entry.
      *
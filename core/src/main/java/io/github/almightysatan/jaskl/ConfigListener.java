@@ -0,0 +1,41 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Set;
+
+/**
+ * Listens for value changes of the entries of a {@link Config}.
+ */
+@FunctionalInterface
+public interface ConfigListener {
+
+    /**
+     * Called after the values of one or more entries changed. All entries changed by a single reload or reset are
+     * reported in one call, after the {@link EntryListener EntryListeners} of these entries have been called.
+     *
+     * @param changedPaths the paths of all entries whose value changed
+     */
+    void onChange(@Unmodifiable @NotNull Set<@NotNull String> changedPaths);
+}
@@ -0,0 +1,62 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Thrown by {@link Config#loadAll(java.util.Collection)} if one or more configs could not be loaded. The first
+ * exception is used as the cause, all other exceptions are added as suppressed exceptions.
+ */
+public class ConfigLoadException extends IOException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final transient Map<Config, Exception> failures; // Configs are not serializable
+
+    public ConfigLoadException(@NotNull Map<@NotNull Config, @NotNull Exception> failures) {
+        super(String.format("Unable to load %d config(s)", failures.size()), failures.isEmpty() ? null : failures.values().iterator().next());
+        this.failures = Collections.unmodifiableMap(new LinkedHashMap<>(failures));
+        boolean first = true;
+        for (Exception exception : this.failures.values()) {
+            if (!first)
+                this.addSuppressed(exception);
+            first = false;
+        }
+    }
+
+    /**
+     * Returns the configs that could not be loaded together with the exception thrown by {@link Config#load()}. The
+     * map has the same iteration order as the collection passed to {@link Config#loadAll(java.util.Collection)}. It is
+     * empty if this exception has been deserialized.
+     *
+     * @return the configs that could not be loaded
+     */
+    public @Unmodifiable @NotNull Map<@NotNull Config, @NotNull Exception> getFailures() {
+        return this.failures != null ? this.failures : Collections.emptyMap();
+    }
+}
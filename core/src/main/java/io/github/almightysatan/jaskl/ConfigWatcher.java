@@ -0,0 +1,91 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl;
+
+import io.github.almightysatan.jaskl.impl.ConfigWatcherImpl;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.function.BiConsumer;
+
+/**
+ * Reloads file based configs whenever their file changes. All files are watched by a single {@link
+ * java.nio.file.WatchService} thread. Bursts of modifications are debounced and a config is only reloaded if the size,
+ * modification time and content of its file actually changed.
+ * <p>
+ * Configs are reloaded on the watcher thread. Configs that are accessed from other threads while being reloaded should
+ * be built with {@link ConfigBuilder#withAtomicReload(boolean)}.
+ */
+public interface ConfigWatcher extends AutoCloseable {
+
+    /**
+     * Starts watching the given file and reloads the config whenever it changes. The config should have been loaded
+     * from a {@link Resource} created with {@link Resource#of(File)} using the same file.
+     *
+     * @param config the config
+     * @param file   the file the config is loaded from
+     * @throws IOException           if an I/O exception occurs
+     * @throws IllegalStateException if this watcher has been closed
+     */
+    void watch(@NotNull Config config, @NotNull File file) throws IOException, IllegalStateException;
+
+    /**
+     * Stops reloading the given config. Does nothing if the config is not watched.
+     *
+     * @param config the config
+     */
+    void unwatch(@NotNull Config config);
+
+    /**
+     * Stops the watcher thread. Configs are not closed.
+     */
+    @Override
+    void close();
+
+    /**
+     * Creates a new {@link ConfigWatcher} that waits 100 milliseconds for further modifications before reloading.
+     * Exceptions thrown while reloading are passed to {@link ExceptionHandler#handleBackground(Config, Throwable)} of
+     * the config's exception handler.
+     *
+     * @return a new {@link ConfigWatcher}
+     * @throws IOException if an I/O exception occurs
+     */
+    static @NotNull ConfigWatcher create() throws IOException {
+        return create(100, null);
+    }
+
+    /**
+     * Creates a new {@link ConfigWatcher}.
+     *
+     * @param debounceMillis   the time in milliseconds to wait for further modifications before reloading
+     * @param exceptionHandler called with the config and the exception if a reload fails. If {@code null}, the
+     *                         exception is passed to the config's exception handler, see {@link #create()}.
+     * @return a new {@link ConfigWatcher}
+     * @throws IOException if an I/O exception occurs
+     */
+    static @NotNull ConfigWatcher create(long debounceMillis, @Nullable BiConsumer<@NotNull Config, @NotNull Exception> exceptionHandler) throws IOException {
+        if (debounceMillis < 0)
+            throw new IllegalArgumentException("debounceMillis must not be negative");
+        return new ConfigWatcherImpl(debounceMillis, exceptionHandler);
+    }
+}
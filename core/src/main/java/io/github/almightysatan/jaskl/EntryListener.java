@@ -0,0 +1,42 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Listens for value changes of a {@link ConfigEntry}.
+ *
+ * @param <T> the type of the entry's value
+ */
+@FunctionalInterface
+public interface EntryListener<T> {
+
+    /**
+     * Called after the value of an entry changed. Values are compared using {@link Object#equals(Object)}, so this is
+     * not called if a value is replaced with an equal value. If the value changed while reloading or resetting the
+     * config, this is called once the reload or reset completed.
+     *
+     * @param oldValue the previous value
+     * @param newValue the new value
+     */
+    void onChange(@NotNull T oldValue, @NotNull T newValue);
+}
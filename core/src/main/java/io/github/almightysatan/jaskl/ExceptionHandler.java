@@ -26,4 +26,17 @@ import org.jetbrains.annotations.Nullable;
 public interface ExceptionHandler {
 
     <T> T handle(@NotNull ConfigEntry<T> entry, @Nullable Object value, @NotNull Throwable exception) throws InvalidTypeException, ValidationException;
+
+    /**
+     * Handles an exception thrown by a task that a config runs in the background, e.g. while applying changes received
+     * from a database. Such exceptions cannot be thrown to the caller. By default, the exception is passed to the
+     * uncaught exception handler of the current thread.
+     *
+     * @param config    the config
+     * @param exception the exception
+     */
+    default void handleBackground(@NotNull Config config, @NotNull Throwable exception) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, exception);
+    }
 }
@@ -20,13 +20,29 @@
 
 package io.github.almightysatan.jaskl;
 
+import io.github.almightysatan.jaskl.impl.AtomicFileOutputStream;
+import io.github.almightysatan.jaskl.impl.AtomicFileWriter;
+import io.github.almightysatan.jaskl.impl.ByteBufferInputStream;
+import io.github.almightysatan.jaskl.impl.MappedFileResource;
+import io.github.almightysatan.jaskl.impl.ReadOnlyResource;
+import io.github.almightysatan.jaskl.impl.ReaderInputStream;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.*;
+import java.math.BigInteger;
 import java.net.URL;
 import java.net.UnknownServiceException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.FileAlreadyExistsException;
 import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
 import java.util.Objects;
 
 /**
@@ -62,7 +78,9 @@ public interface Resource {
     @NotNull Reader getReader() throws IOException, SecurityException;
 
     /**
-     * Returns a {@link Writer} for this resource
+     * Returns a {@link Writer} for this resource. If the returned writer is {@link Committable}, it has to be committed
+     * using {@link Committable#commit(Closeable)} once the whole content has been written, otherwise the content is
+     * discarded when the writer is closed.
      *
      * @return a {@link Writer}
      * @throws IOException                   if an I/O exception occurs
@@ -71,6 +89,58 @@ public interface Resource {
      */
     @NotNull Writer getWriter() throws IOException, SecurityException;
 
+    /**
+     * Returns an {@link InputStream} for this resource. The content is UTF-8 encoded. The default implementation
+     * encodes the content returned by {@link #getReader()} while it is read.
+     *
+     * @return an {@link InputStream}
+     * @throws IOException       if an I/O exception occurs
+     * @throws SecurityException if a security manager exists and denies access to an operation
+     */
+    default @NotNull InputStream getInputStream() throws IOException, SecurityException {
+        return new ReaderInputStream(this.getReader());
+    }
+
+    /**
+     * Returns an {@link OutputStream} for this resource. The content has to be UTF-8 encoded. Like writers, the returned
+     * stream may be {@link Committable}. The default implementation buffers all bytes and passes them to
+     * {@link #getWriter()} when the stream is committed or closed.
+     *
+     * @return an {@link OutputStream}
+     * @throws IOException                   if an I/O exception occurs
+     * @throws UnsupportedOperationException if {@link Resource#isReadOnly} is {@code true}
+     * @throws SecurityException             if a security manager exists and denies access to an operation
+     */
+    default @NotNull OutputStream getOutputStream() throws IOException, SecurityException {
+        if (this.isReadOnly())
+            throw new UnsupportedOperationException();
+        class ResourceOutputStream extends ByteArrayOutputStream implements Committable {
+            private boolean closed;
+
+            @Override
+            public void commit() throws IOException {
+                this.writeToResource(true);
+            }
+
+            @Override
+            public void close() throws IOException {
+                this.writeToResource(false);
+            }
+
+            private void writeToResource(boolean commit) throws IOException {
+                if (this.closed)
+                    return;
+                this.closed = true;
+                try (Writer writer = Resource.this.getWriter()) {
+                    writer.write(this.toString(StandardCharsets.UTF_8.name()));
+                    if (commit)
+                        Committable.commit(writer);
+                }
+            }
+        }
+        return new ResourceOutputStream();
+    }
+
     /**
      * Returns {@code true} if this resource is read-only
      *
@@ -81,49 +151,169 @@ public interface Resource {
     boolean isReadOnly() throws IOException, SecurityException;
 
     /**
-     * Returns a new {@link Resource} from the given {@link File}
+     * Returns a fingerprint of the current content of this resource. Fingerprints can be compared using
+     * {@link Object#equals(Object)}. If the content changes, the fingerprint changes as well. The default implementation
+     * reads the whole {@link #getInputStream() input stream} and returns a SHA-256 hash of its content.
+     *
+     * @return a fingerprint or {@code null} if the resource does not exist
+     * @throws IOException       if an I/O exception occurs
+     * @throws SecurityException if a security manager exists and denies access to an operation
+     */
+    default @Nullable Object getFingerprint() throws IOException, SecurityException {
+        if (!this.exists())
+            return null;
+
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IOException(e);
+        }
+        try (InputStream inputStream = this.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1)
+                digest.update(buffer, 0, length);
+        }
+        return new BigInteger(1, digest.digest());
+    }
+
+    /**
+     * Returns a new {@link Resource} from the given {@link File}. The file is overwritten in place.
      *
      * @param file the {@link File}
      * @return a new {@link Resource} from the given {@link File}
      */
     static Resource of(@NotNull File file) {
+        return of(file, WriteMode.IN_PLACE);
+    }
+
+    /**
+     * Returns a new {@link Resource} from the given {@link File}
+     *
+     * @param file      the {@link File}
+     * @param writeMode how the file is written
+     * @return a new {@link Resource} from the given {@link File}
+     */
+    static Resource of(@NotNull File file, @NotNull WriteMode writeMode) {
         Objects.requireNonNull(file);
+        return of(file.toPath(), writeMode);
+    }
+
+    /**
+     * Returns a new {@link Resource} from the given {@link Path}. The file is overwritten in place.
+     *
+     * @param path the {@link Path}
+     * @return a new {@link Resource} from the given {@link Path}
+     */
+    static Resource of(@NotNull Path path) {
+        return of(path, WriteMode.IN_PLACE);
+    }
+
+    /**
+     * Returns a new {@link Resource} from the given {@link Path}
+     *
+     * @param path      the {@link Path}
+     * @param writeMode how the file is written
+     * @return a new {@link Resource} from the given {@link Path}
+     */
+    static Resource of(@NotNull Path path, @NotNull WriteMode writeMode) {
+        Objects.requireNonNull(path);
+        Objects.requireNonNull(writeMode);
         return new Resource() {
             @Override
             public boolean exists() throws IOException, SecurityException {
-                return file.exists();
+                return Files.exists(path);
             }
 
             @Override
             public void createIfNotExists() throws IOException, SecurityException {
                 if (this.isReadOnly())
                     throw new UnsupportedOperationException();
-                if (file.exists())
+                if (Files.exists(path))
                     return;
-                if (!file.getParentFile().exists() && !file.getParentFile().mkdirs())
-                    throw new IOException("Unable to create directory");
-                file.createNewFile();
+                Path parent = path.toAbsolutePath().getParent();
+                if (parent != null)
+                    Files.createDirectories(parent);
+                try {
+                    Files.createFile(path);
+                } catch (FileAlreadyExistsException ignored) {
+                }
             }
 
             @Override
             public @NotNull Reader getReader() throws IOException, SecurityException {
-                return Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8);
+                return Files.newBufferedReader(path, StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public @NotNull InputStream getInputStream() throws IOException, SecurityException {
+                return Files.newInputStream(path);
             }
 
             @Override
             public @NotNull Writer getWriter() throws IOException, SecurityException {
                 if (this.isReadOnly())
                     throw new UnsupportedOperationException();
-                return Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+                if (writeMode == WriteMode.IN_PLACE)
+                    return Files.newBufferedWriter(path, StandardCharsets.UTF_8);
+                return new AtomicFileWriter(path, writeMode == WriteMode.ATOMIC_SYNC);
+            }
+
+            @Override
+            public @NotNull OutputStream getOutputStream() throws IOException, SecurityException {
+                if (this.isReadOnly())
+                    throw new UnsupportedOperationException();
+                if (writeMode == WriteMode.IN_PLACE)
+                    return new BufferedOutputStream(Files.newOutputStream(path));
+                return new AtomicFileOutputStream(path, writeMode == WriteMode.ATOMIC_SYNC);
             }
 
             @Override
             public boolean isReadOnly() throws IOException, SecurityException {
-                return file.exists() && !file.canRead();
+                return Files.exists(path) && !Files.isReadable(path);
+            }
+
+            @Override
+            public @Nullable Object getFingerprint() throws IOException, SecurityException {
+                // Only the file's metadata is compared. The file key changes if the file is replaced.
+                try {
+                    BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+                    return Arrays.asList(attributes.size(), attributes.lastModifiedTime(), attributes.fileKey());
+                } catch (NoSuchFileException e) {
+                    return null;
+                }
             }
         };
     }
 
+    /**
+     * Returns a new {@link Resource} from the given {@link Path} that is read through a read-only memory mapping. The
+     * bytes are parsed directly from the page cache instead of being copied through stream and character buffers,
+     * which reduces heap usage for very large files. The file is overwritten in place.
+     * <p>
+     * Some platforms, e.g. Windows, do not allow replacing or deleting a file while it is mapped. The mapping is
+     * released once the buffer has been garbage collected.
+     *
+     * @param path the {@link Path}
+     * @return a new {@link MappedFileResource} from the given {@link Path}
+     */
+    static MappedFileResource mapped(@NotNull Path path) {
+        return mapped(path, WriteMode.IN_PLACE);
+    }
+
+    /**
+     * Returns a new {@link Resource} from the given {@link Path} that is read through a read-only memory mapping. See
+     * {@link #mapped(Path)}.
+     *
+     * @param path      the {@link Path}
+     * @param writeMode how the file is written
+     * @return a new {@link MappedFileResource} from the given {@link Path}
+     */
+    static MappedFileResource mapped(@NotNull Path path, @NotNull WriteMode writeMode) {
+        return new MappedFileResource(path, writeMode);
+    }
+
     /**
      * Returns a new {@link Resource} from the given {@link URL}
      *
@@ -148,10 +338,20 @@ public interface Resource {
                 return new InputStreamReader(url.openStream(), StandardCharsets.UTF_8);
             }
 
+            @Override
+            public @NotNull InputStream getInputStream() throws IOException {
+                return url.openStream();
+            }
+
             @Override
             public @NotNull Writer getWriter() throws IOException {
+                return new OutputStreamWriter(this.getOutputStream(), StandardCharsets.UTF_8);
+            }
+
+            @Override
+            public @NotNull OutputStream getOutputStream() throws IOException {
                 try {
-                    return new OutputStreamWriter(url.openConnection().getOutputStream(), StandardCharsets.UTF_8);
+                    return url.openConnection().getOutputStream();
                 } catch (UnknownServiceException e) {
                     throw new UnsupportedOperationException();
                 }
@@ -167,4 +367,64 @@ public interface Resource {
             }
         };
     }
+
+    /**
+     * Returns a new read-only {@link Resource} containing the given UTF-8 encoded bytes. The array is not copied, so
+     * it must not be modified afterwards.
+     *
+     * @param bytes the content
+     * @return a new {@link Resource} containing the given bytes
+     */
+    static Resource of(byte @NotNull [] bytes) {
+        Objects.requireNonNull(bytes);
+        return new ReadOnlyResource() {
+            @Override
+            public @NotNull InputStream getInputStream() {
+                return new ByteArrayInputStream(bytes);
+            }
+        };
+    }
+
+    /**
+     * Returns a new read-only {@link Resource} containing the remaining UTF-8 encoded bytes of the given
+     * {@link ByteBuffer}. The buffer is not copied and its position is not changed, so its content must not be
+     * modified afterwards.
+     *
+     * @param buffer the content
+     * @return a new {@link Resource} containing the given bytes
+     */
+    static Resource of(@NotNull ByteBuffer buffer) {
+        ByteBuffer content = Objects.requireNonNull(buffer).duplicate();
+        return new ReadOnlyResource() {
+            @Override
+            public @NotNull InputStream getInputStream() {
+                return new ByteBufferInputStream(content.duplicate());
+            }
+        };
+    }
+
+    /**
+     * Determines how a file {@link Resource} is written
+     */
+    enum WriteMode {
+        /**
+         * The file is truncated and written in place. Readers may observe a partially written file.
+         */
+        IN_PLACE,
+        /**
+         * The content is written to a temporary file which then atomically replaces the file when the {@link Writer}
+         * is {@link Committable committed}. Readers either observe the old or the new content. If the writer is closed
+         * without being committed, the file is left untouched.
+         * <p>
+         * The file is replaced by renaming, so a symbolic link is replaced by a regular file instead of being written
+         * through, and the owner of the file becomes the writing user. Committing fails with an
+         * {@link java.nio.file.AtomicMoveNotSupportedException} if the file system does not support atomic renames.
+         */
+        ATOMIC,
+        /**
+         * Like {@link #ATOMIC} but the temporary file is forced to the storage device before it replaces the file,
+         * so the new content survives a crash once the {@link Writer} has been committed.
+         */
+        ATOMIC_SYNC
+    }
 }
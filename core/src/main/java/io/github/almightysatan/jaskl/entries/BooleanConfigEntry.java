@@ -27,6 +27,17 @@ import org.jetbrains.annotations.Nullable;
 
 public interface BooleanConfigEntry extends ConfigEntry<Boolean> {
 
+    /**
+     * Returns the value of this ConfigEntry without boxing.
+     *
+     * @return the value of this ConfigEntry
+     * @throws InvalidTypeException if the value does not match its expected {@link Type}
+     * @throws ValidationException  if the value fails validation
+     */
+    default boolean getBoolean() throws InvalidTypeException, ValidationException {
+        return this.getValue();
+    }
+
     /**
      * Creates a new config entry.
      *
@@ -42,10 +53,23 @@ public interface BooleanConfigEntry extends ConfigEntry<Boolean> {
     @SafeVarargs
     static @NotNull BooleanConfigEntry of(@NotNull Config config, @NotNull String path, @Nullable String description, boolean defaultValue, @NotNull Validator<? super Boolean>... validators) throws InvalidTypeException, ValidationException {
         class BooleanConfigEntryImpl extends WritableConfigEntryImpl<Boolean> implements BooleanConfigEntry {
+            private volatile boolean booleanValue;
+
             BooleanConfigEntryImpl() {
                 super(Type.validated(Type.BOOLEAN, validators), path, description, defaultValue);
+                this.booleanValue = super.getValue();
                 this.register(config);
             }
+
+            @Override
+            protected void onValueStored(@NotNull Boolean value) {
+                this.booleanValue = value;
+            }
+
+            @Override
+            public boolean getBoolean() {
+                return this.isSnapshotValue() ? this.getValue() : this.booleanValue;
+            }
         }
 
         return new BooleanConfigEntryImpl();
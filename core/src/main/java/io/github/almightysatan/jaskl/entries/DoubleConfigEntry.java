@@ -27,6 +27,17 @@ import org.jetbrains.annotations.Nullable;
 
 public interface DoubleConfigEntry extends ConfigEntry<Double> {
 
+    /**
+     * Returns the value of this ConfigEntry without boxing.
+     *
+     * @return the value of this ConfigEntry
+     * @throws InvalidTypeException if the value does not match its expected {@link Type}
+     * @throws ValidationException  if the value fails validation
+     */
+    default double getDouble() throws InvalidTypeException, ValidationException {
+        return this.getValue();
+    }
+
     /**
      * Creates a new config entry.
      *
@@ -42,10 +53,23 @@ public interface DoubleConfigEntry extends ConfigEntry<Double> {
     @SafeVarargs
     static @NotNull DoubleConfigEntry of(@NotNull Config config, @NotNull String path, @Nullable String description, double defaultValue, @NotNull Validator<? super Double>... validators) throws InvalidTypeException, ValidationException {
         class DoubleConfigEntryImpl extends WritableConfigEntryImpl<Double> implements DoubleConfigEntry {
+            private volatile double doubleValue;
+
             DoubleConfigEntryImpl() {
                 super(Type.validated(Type.DOUBLE, validators), path, description, defaultValue);
+                this.doubleValue = super.getValue();
                 this.register(config);
             }
+
+            @Override
+            protected void onValueStored(@NotNull Double value) {
+                this.doubleValue = value;
+            }
+
+            @Override
+            public double getDouble() {
+                return this.isSnapshotValue() ? this.getValue() : this.doubleValue;
+            }
         }
 
         return new DoubleConfigEntryImpl();
@@ -27,6 +27,17 @@ import org.jetbrains.annotations.Nullable;
 
 public interface FloatConfigEntry extends ConfigEntry<Float> {
 
+    /**
+     * Returns the value of this ConfigEntry without boxing.
+     *
+     * @return the value of this ConfigEntry
+     * @throws InvalidTypeException if the value does not match its expected {@link Type}
+     * @throws ValidationException  if the value fails validation
+     */
+    default float getFloat() throws InvalidTypeException, ValidationException {
+        return this.getValue();
+    }
+
     /**
      * Creates a new config entry.
      *
@@ -42,10 +53,23 @@ public interface FloatConfigEntry extends ConfigEntry<Float> {
     @SafeVarargs
     static @NotNull FloatConfigEntry of(@NotNull Config config, @NotNull String path, @Nullable String description, float defaultValue, @NotNull Validator<? super Float>... validators) throws InvalidTypeException, ValidationException {
         class FloatConfigEntryImpl extends WritableConfigEntryImpl<Float> implements FloatConfigEntry {
+            private volatile float floatValue;
+
             FloatConfigEntryImpl() {
                 super(Type.validated(Type.FLOAT, validators), path, description, defaultValue);
+                this.floatValue = super.getValue();
                 this.register(config);
             }
+
+            @Override
+            protected void onValueStored(@NotNull Float value) {
+                this.floatValue = value;
+            }
+
+            @Override
+            public float getFloat() {
+                return this.isSnapshotValue() ? this.getValue() : this.floatValue;
+            }
         }
 
         return new FloatConfigEntryImpl();
@@ -27,6 +27,17 @@ import org.jetbrains.annotations.Nullable;
 
 public interface IntegerConfigEntry extends ConfigEntry<Integer> {
 
+    /**
+     * Returns the value of this ConfigEntry without boxing.
+     *
+     * @return the value of this ConfigEntry
+     * @throws InvalidTypeException if the value does not match its expected {@link Type}
+     * @throws ValidationException  if the value fails validation
+     */
+    default int getInt() throws InvalidTypeException, ValidationException {
+        return this.getValue();
+    }
+
     /**
      * Creates a new config entry.
      *
@@ -42,10 +53,23 @@ public interface IntegerConfigEntry extends ConfigEntry<Integer> {
     @SafeVarargs
     static @NotNull IntegerConfigEntry of(@NotNull Config config, @NotNull String path, @Nullable String description, int defaultValue, @NotNull Validator<? super Integer>... validators) throws InvalidTypeException, ValidationException {
         class IntegerConfigEntryImpl extends WritableConfigEntryImpl<Integer> implements IntegerConfigEntry {
+            private volatile int intValue;
+
             IntegerConfigEntryImpl() {
                 super(Type.validated(Type.INTEGER, validators), path, description, defaultValue);
+                this.intValue = super.getValue();
                 this.register(config);
             }
+
+            @Override
+            protected void onValueStored(@NotNull Integer value) {
+                this.intValue = value;
+            }
+
+            @Override
+            public int getInt() {
+                return this.isSnapshotValue() ? this.getValue() : this.intValue;
+            }
         }
 
         return new IntegerConfigEntryImpl();
@@ -27,6 +27,17 @@ import org.jetbrains.annotations.Nullable;
 
 public interface LongConfigEntry extends ConfigEntry<Long> {
 
+    /**
+     * Returns the value of this ConfigEntry without boxing.
+     *
+     * @return the value of this ConfigEntry
+     * @throws InvalidTypeException if the value does not match its expected {@link Type}
+     * @throws ValidationException  if the value fails validation
+     */
+    default long getLong() throws InvalidTypeException, ValidationException {
+        return this.getValue();
+    }
+
     /**
      * Creates a new config entry.
      *
@@ -42,10 +53,23 @@ public interface LongConfigEntry extends ConfigEntry<Long> {
     @SafeVarargs
     static @NotNull LongConfigEntry of(@NotNull Config config, @NotNull String path, @Nullable String description, long defaultValue, @NotNull Validator<? super Long>... validators) throws InvalidTypeException, ValidationException {
         class LongConfigEntryImpl extends WritableConfigEntryImpl<Long> implements LongConfigEntry {
+            private volatile long longValue;
+
             LongConfigEntryImpl() {
                 super(Type.validated(Type.LONG, validators), path, description, defaultValue);
+                this.longValue = super.getValue();
                 this.register(config);
             }
+
+            @Override
+            protected void onValueStored(@NotNull Long value) {
+                this.longValue = value;
+            }
+
+            @Override
+            public long getLong() {
+                return this.isSnapshotValue() ? this.getValue() : this.longValue;
+            }
         }
 
         return new LongConfigEntryImpl();
@@ -26,6 +26,9 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Field;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.ParameterizedType;
@@ -33,38 +36,56 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
 
 public class AnnotationManagerImpl implements AnnotationManager {
 
     public static final AnnotationManager INSTANCE = new AnnotationManagerImpl();
 
-    private final Map<Class<?>, Function<Object, Validator<Object>>> validatorFunctions = new HashMap<>();
-    private final Map<Class<?>, Validator<Object>> validators = new HashMap<>();
-    private final Map<Class<?>, Type<?>> typeCache = new HashMap<>();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType CONSTRUCTOR_TYPE = MethodType.methodType(Object.class);
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    // All maps are concurrent as the manager may be used by multiple threads at the same time (e.g. INSTANCE)
+    private final Map<Class<?>, Function<Object, Validator<Object>>> validatorFunctions = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Validator<Object>> validators = new ConcurrentHashMap<>();
+    private final Map<Class<?>, CachedType> typeCache = new ConcurrentHashMap<>();
+    private final Map<Class<?>, MethodHandle> constructorCache = new ConcurrentHashMap<>();
+    private final AtomicLong typeCacheGeneration = new AtomicLong(); // Incremented whenever cached types are invalidated
 
     public AnnotationManagerImpl() {
         this.registerDefaultAnnotations();
     }
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
     @Override
     public <A, T> void addValidatorFunction(@NotNull Class<A> annotationClass, @NotNull Function<A, Validator<T>> validatorFunction) {
+        this.addValidatorFunction(annotationClass, validatorFunction, null);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    @Override
+    public <A, T> void addValidator(@NotNull Class<A> annotationClass, @NotNull Validator<T> validator) {
+        Objects.requireNonNull(validator);
+        this.addValidatorFunction(annotationClass, annotation -> validator, (Validator) validator);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private <A, T> void addValidatorFunction(@NotNull Class<A> annotationClass, @NotNull Function<A, Validator<T>> validatorFunction, @Nullable Validator<Object> validator) {
         Objects.requireNonNull(annotationClass);
         Objects.requireNonNull(validatorFunction);
         if (!annotationClass.isAnnotation())
             throw new IllegalArgumentException("Class is not an annotation");
-        if (this.validatorFunctions.containsKey(annotationClass))
+        if (this.validatorFunctions.putIfAbsent(annotationClass, (Function) validatorFunction) != null)
             throw new IllegalArgumentException("Class already registered");
-        this.validatorFunctions.put(annotationClass, (Function) validatorFunction);
-        this.typeCache.clear();
-    }
+        if (validator != null)
+            this.validators.put(annotationClass, validator);
 
-    @SuppressWarnings({"unchecked", "rawtypes"})
-    @Override
-    public <A, T> void addValidator(@NotNull Class<A> annotationClass, @NotNull Validator<T> validator) {
-        this.addValidatorFunction(annotationClass, annotation -> validator);
-        this.validators.put(annotationClass, (Validator) validator);
+        // Only types that (transitively) use the new annotation have to be created again
+        this.typeCacheGeneration.incrementAndGet();
+        this.typeCache.values().removeIf(cachedType -> cachedType.annotations.contains(annotationClass));
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
@@ -84,98 +105,76 @@ public class AnnotationManagerImpl implements AnnotationManager {
         Objects.requireNonNull(config);
         Objects.requireNonNull(configClass);
         try {
-            T instance = configClass.newInstance();
+            T instance = configClass.cast(newInstance(this.getConstructor(configClass)));
 
-            for (Property property : this.loadProperties(configClass, instance, true, Collections.emptySet())) {
-                WritableConfigEntry<?> entry = new WritableAnnotationConfigEntry<>(property.type, property.path, property.description, property.defaultValue, property.field, instance);
+            for (Property property : this.loadProperties(configClass, instance, true, Collections.emptySet(), new HashSet<>())) {
+                WritableConfigEntry<?> entry = new FieldConfigEntry<>(property.type, property.path, property.description, property.defaultValue,
+                        () -> property.get(instance), value -> property.set(instance, value));
                 entry.register(config);
             }
 
             return instance;
-        } catch (InstantiationException | IllegalAccessException e) {
+        } catch (IllegalAccessException e) {
             throw new InvalidAnnotationConfigException(e);
         }
     }
 
-    private static class WritableAnnotationConfigEntry<T> extends WritableConfigEntryImpl<T> {
-
-        private final Field field;
-        private final Object instance;
-        private Object prevFieldValue;
-
-        public WritableAnnotationConfigEntry(@NotNull Type<T> type, @NotNull String path, @Nullable String description, @NotNull T defaultValue,
-                                             @NotNull Field field, @NotNull Object instance) throws InvalidTypeException, ValidationException {
-            super(type, path, description, defaultValue);
-            this.field = field;
-            this.instance = instance;
-            this.prevFieldValue = defaultValue;
-        }
-
-        @Override
-        public @NotNull T getValue() {
-            this.checkField();
-            return super.getValue();
-        }
-
-        @Override
-        public @NotNull Object getValueToWrite(@NotNull Function<@NotNull Object, @NotNull Object> keyPreprocessor) throws InvalidTypeException, ValidationException {
-            this.checkField();
-            return super.getValueToWrite(keyPreprocessor);
-        }
-
-        @Override
-        public void setValue(@NotNull T value) throws InvalidTypeException, ValidationException {
-            super.setValue(value);
-            this.setField(super.getValue());
-        }
-
-        @Override
-        public void putValue(@NotNull Object value, @NotNull ExceptionHandler exceptionHandler) throws InvalidTypeException, ValidationException {
-            super.putValue(value, exceptionHandler);
-            this.setField(super.getValue());
-        }
-
-        @Override
-        public boolean isModified() {
-            return this.checkField() || super.isModified();
-        }
-
-        private boolean checkField() {
+    /**
+     * Returns a {@link MethodHandle} invoking the public no-args constructor of the given class. Handles are created
+     * once per class.
+     *
+     * @param clazz the class
+     * @return a handle of type {@code ()Object}
+     * @throws InvalidAnnotationConfigException if the class has no accessible no-args constructor
+     */
+    private @NotNull MethodHandle getConstructor(@NotNull Class<?> clazz) throws InvalidAnnotationConfigException {
+        MethodHandle constructor = this.constructorCache.get(clazz);
+        if (constructor == null) {
             try {
-                @SuppressWarnings("unchecked")
-                T fieldValue = (T) this.field.get(this.instance);
-                if (this.prevFieldValue != fieldValue) {
-                    this.setValue(fieldValue);
-                    return true;
-                }
-                return false;
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
+                constructor = LOOKUP.unreflectConstructor(clazz.getConstructor()).asType(CONSTRUCTOR_TYPE);
+            } catch (ReflectiveOperationException e) {
+                throw new InvalidAnnotationConfigException(e);
             }
+            MethodHandle existing = this.constructorCache.putIfAbsent(clazz, constructor);
+            if (existing != null)
+                return existing;
         }
+        return constructor;
+    }
 
-        private void setField(@NotNull Object value) {
-            try {
-                this.field.set(this.instance, value);
-                this.prevFieldValue = value;
-            } catch (IllegalAccessException e) {
-                throw new RuntimeException(e);
-            }
+    private static @NotNull Object newInstance(@NotNull MethodHandle constructor) {
+        try {
+            return (Object) constructor.invokeExact();
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new RuntimeException(t);
         }
     }
 
     @Override
     public <T> @NotNull Type<T> createCustomObjectType(@NotNull Class<T> typeClass) throws InvalidAnnotationConfigException {
-        return this.createCustomObjectType(typeClass, Collections.emptySet());
+        return this.createCustomObjectType(typeClass, Collections.emptySet(), new HashSet<>());
     }
 
+    /**
+     * Creates or returns a cached {@link Type} for the given class.
+     *
+     * @param typeClass           the class
+     * @param parentCustomClasses the classes that are currently being resolved, used to detect circular references
+     * @param annotations         the annotation classes used by the type (including nested types) are added to this set
+     * @return the type
+     * @throws InvalidAnnotationConfigException if the class is invalid
+     */
     @SuppressWarnings("unchecked")
-    private <T> @NotNull Type<T> createCustomObjectType(@NotNull Class<T> typeClass, @NotNull Set<Class<?>> parentCustomClasses) throws InvalidAnnotationConfigException {
+    private <T> @NotNull Type<T> createCustomObjectType(@NotNull Class<T> typeClass, @NotNull Set<Class<?>> parentCustomClasses, @NotNull Set<Class<?>> annotations) throws InvalidAnnotationConfigException {
         Objects.requireNonNull(typeClass);
 
-        Type<T> cachedType = (Type<T>) this.typeCache.get(typeClass);
-        if (cachedType != null)
-            return cachedType;
+        CachedType cachedType = this.typeCache.get(typeClass);
+        if (cachedType != null) {
+            annotations.addAll(cachedType.annotations);
+            return (Type<T>) cachedType.type;
+        }
 
         if (parentCustomClasses.contains(typeClass))
             throw new InvalidAnnotationConfigException("Circular type references are not allowed");
@@ -183,8 +182,13 @@ public class AnnotationManagerImpl implements AnnotationManager {
         parentCustomClasses = new HashSet<>(parentCustomClasses);
         parentCustomClasses.add(typeClass);
 
+        // Types are not created inside computeIfAbsent as nested types modify the cache. If multiple threads create the
+        // same type at the same time only the first one is cached.
+        long generation = this.typeCacheGeneration.get();
+        Set<Class<?>> typeAnnotations = new HashSet<>();
         try {
-            Property[] properties = this.loadProperties(typeClass, typeClass.newInstance(), false, parentCustomClasses);
+            MethodHandle constructor = this.getConstructor(typeClass);
+            Property[] properties = this.loadProperties(typeClass, typeClass.cast(newInstance(constructor)), false, parentCustomClasses, typeAnnotations);
 
             if (properties.length == 0)
                 throw new InvalidAnnotationConfigException("No annotated fields found");
@@ -198,18 +202,14 @@ public class AnnotationManagerImpl implements AnnotationManager {
                     if (value instanceof Map) {
                         Map<String, ?> mapValue = (Map<String, ?>) value;
 
-                        try {
-                            T instance = typeClass.newInstance();
-                            for (Property property : properties) {
-                                Object propertyValue = mapValue.get(property.path);
-                                if (propertyValue == null)
-                                    throw new InvalidTypeException(property.path);
-                                property.field.set(instance, property.type.toEntryType(propertyValue));
-                            }
-                            return instance;
-                        } catch (InstantiationException | IllegalAccessException e) {
-                            throw new RuntimeException(e);
+                        T instance = (T) newInstance(constructor);
+                        for (Property property : properties) {
+                            Object propertyValue = mapValue.get(property.path);
+                            if (propertyValue == null)
+                                throw new InvalidTypeException(property.path);
+                            property.set(instance, property.type.toEntryType(propertyValue));
                         }
+                        return instance;
                     }
 
                     throw new InvalidTypeException(Map.class, value.getClass());
@@ -219,24 +219,28 @@ public class AnnotationManagerImpl implements AnnotationManager {
                 public @NotNull Object toWritable(@NotNull T value, @NotNull Function<@NotNull Object, @NotNull Object> keyPreprocessor) throws InvalidTypeException {
                     Map<Object, Object> map = new HashMap<>();
                     for (Property property : properties)
-                        try {
-                            map.put(keyPreprocessor.apply(new EntryDescriptor(property.path, property.description)), property.type.toWritable(property.field.get(value), keyPreprocessor));
-                        } catch (IllegalAccessException e) {
-                            throw new RuntimeException(e);
-                        }
+                        map.put(keyPreprocessor.apply(new EntryDescriptor(property.path, property.description)), property.type.toWritable(property.get(value), keyPreprocessor));
 
                     return Collections.unmodifiableMap(map);
                 }
             };
-            this.typeCache.put(typeClass, type);
+            annotations.addAll(typeAnnotations);
+
+            CachedType newCachedType = new CachedType(type, typeAnnotations);
+            cachedType = this.typeCache.putIfAbsent(typeClass, newCachedType);
+            if (cachedType != null)
+                return (Type<T>) cachedType.type;
+            // A validator may have been added while the type was created. In that case the type may be outdated.
+            if (generation != this.typeCacheGeneration.get())
+                this.typeCache.remove(typeClass, newCachedType);
             return type;
-        } catch (InstantiationException | IllegalAccessException e) {
+        } catch (IllegalAccessException e) {
             throw new InvalidAnnotationConfigException(e);
         }
     }
 
-    private <T> @NotNull Property @NotNull [] loadProperties(@NotNull Class<T> clazz, @NotNull T instance, boolean loadDefaultValue, @NotNull Set<Class<?>> parentCustomClasses)
-            throws IllegalAccessException, InvalidAnnotationConfigException {
+    private <T> @NotNull Property @NotNull [] loadProperties(@NotNull Class<T> clazz, @NotNull T instance, boolean loadDefaultValue, @NotNull Set<Class<?>> parentCustomClasses,
+                                                             @NotNull Set<Class<?>> annotations) throws IllegalAccessException, InvalidAnnotationConfigException {
         List<Property> properties = new ArrayList<>();
 
         for (Field field : clazz.getFields()) {
@@ -246,6 +250,8 @@ public class AnnotationManagerImpl implements AnnotationManager {
             Entry annotation = field.getAnnotation(Entry.class);
             if (annotation != null) {
                 String path = annotation.value().isEmpty() ? field.getName() : annotation.value();
+                MethodHandle getter = LOOKUP.unreflectGetter(field).asType(GETTER_TYPE);
+                MethodHandle setter = LOOKUP.unreflectSetter(field).asType(SETTER_TYPE);
                 Object defaultValue = null;
                 if (loadDefaultValue) {
                     defaultValue = field.get(instance);
@@ -255,7 +261,7 @@ public class AnnotationManagerImpl implements AnnotationManager {
 
                 TypeHint typeHintAnnotation = field.getAnnotation(TypeHint.class);
                 @SuppressWarnings("unchecked")
-                Type<Object> type = (Type<Object>) (typeHintAnnotation != null ? this.resolveType(typeHintAnnotation.value(), parentCustomClasses) : this.resolveType(field, parentCustomClasses));
+                Type<Object> type = (Type<Object>) (typeHintAnnotation != null ? this.resolveType(typeHintAnnotation.value(), parentCustomClasses, annotations) : this.resolveType(field, parentCustomClasses, annotations));
                 if (type == null)
                     throw new InvalidAnnotationConfigException(String.format("Unknown type for field %s", field.getName()));
                 
@@ -263,6 +269,7 @@ public class AnnotationManagerImpl implements AnnotationManager {
                 String description = descriptionAnnotation != null ? descriptionAnnotation.value() : null;
 
                 for (Annotation a : field.getAnnotations()) {
+                    annotations.add(a.annotationType());
                     Function<Object, Validator<Object>> validatorFunction = this.validatorFunctions.get(a.annotationType());
                     if (validatorFunction != null) {
                         Object annotationInstance = field.getAnnotation(a.annotationType());
@@ -273,7 +280,7 @@ public class AnnotationManagerImpl implements AnnotationManager {
                         }
                     }
                 }
-                properties.add(new Property(field, path, description, type, defaultValue));
+                properties.add(new Property(getter, setter, path, description, type, defaultValue));
             }
         }
 
@@ -282,23 +289,56 @@ public class AnnotationManagerImpl implements AnnotationManager {
 
     private static class Property {
 
-        private final Field field;
+        private final MethodHandle getter; // (Object)Object
+        private final MethodHandle setter; // (Object,Object)void
         private final String path;
         private final String description;
         private final Type<Object> type;
         private final Object defaultValue;
 
-        private Property(Field field, String path, String description, Type<Object> type, Object defaultValue) {
-            this.field = field;
+        private Property(MethodHandle getter, MethodHandle setter, String path, String description, Type<Object> type, Object defaultValue) {
+            this.getter = getter;
+            this.setter = setter;
             this.path = path;
             this.description = description;
             this.type = type;
             this.defaultValue = defaultValue;
         }
+
+        private Object get(Object instance) {
+            try {
+                return (Object) this.getter.invokeExact(instance);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+
+        private void set(Object instance, Object value) {
+            try {
+                this.setter.invokeExact(instance, value);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new RuntimeException(t);
+            }
+        }
+    }
+
+    private static class CachedType {
+
+        private final Type<?> type;
+        private final Set<Class<?>> annotations; // All annotations used by the type and its nested types
+
+        private CachedType(Type<?> type, Set<Class<?>> annotations) {
+            this.type = type;
+            this.annotations = annotations;
+        }
     }
 
     @SuppressWarnings({"unchecked", "rawtypes"})
-    private @Nullable Type<?> resolveType(@Nullable Class<?> typeClass, @NotNull Set<Class<?>> parentCustomClasses) {
+    private @Nullable Type<?> resolveType(@Nullable Class<?> typeClass, @NotNull Set<Class<?>> parentCustomClasses, @NotNull Set<Class<?>> annotations) {
         if (typeClass == null)
             return null;
         if (typeClass == boolean.class || typeClass == Boolean.class)
@@ -338,11 +378,11 @@ public class AnnotationManagerImpl implements AnnotationManager {
         if (typeClass.isEnum())
             return Type.enumType((Class<? extends Enum>) typeClass);
         if (this.typeCache.containsKey(typeClass) | Arrays.stream(typeClass.getFields()).anyMatch(field -> field.getAnnotation(Entry.class) != null))
-            return this.createCustomObjectType(typeClass, parentCustomClasses);
+            return this.createCustomObjectType(typeClass, parentCustomClasses, annotations);
         return null;
     }
 
-    private @Nullable Type<?> resolveType(@Nullable Iterator<Class<?>> typeClasses, @NotNull Set<Class<?>> parentCustomClasses) {
+    private @Nullable Type<?> resolveType(@Nullable Iterator<Class<?>> typeClasses, @NotNull Set<Class<?>> parentCustomClasses, @NotNull Set<Class<?>> annotations) {
         if (typeClasses == null || !typeClasses.hasNext())
             return null;
 
@@ -351,14 +391,14 @@ public class AnnotationManagerImpl implements AnnotationManager {
             return null;
 
         if (List.class.isAssignableFrom(typeClass)) {
-            Type<?> type = this.resolveType(typeClasses, parentCustomClasses);
+            Type<?> type = this.resolveType(typeClasses, parentCustomClasses, annotations);
             if (type == null)
                 return null;
             return Type.list(type);
         }
         if (Map.class.isAssignableFrom(typeClass)) {
-            Type<?> keyType = this.resolveType(typeClasses, parentCustomClasses);
-            Type<?> valueType = this.resolveType(typeClasses, parentCustomClasses);
+            Type<?> keyType = this.resolveType(typeClasses, parentCustomClasses, annotations);
+            Type<?> valueType = this.resolveType(typeClasses, parentCustomClasses, annotations);
             if (keyType == null)
                 return null;
             if (valueType == null)
@@ -366,14 +406,14 @@ public class AnnotationManagerImpl implements AnnotationManager {
             return Type.map(keyType, valueType);
         }
 
-        return this.resolveType(typeClass, parentCustomClasses);
+        return this.resolveType(typeClass, parentCustomClasses, annotations);
     }
 
-    private @Nullable Type<?> resolveType(@Nullable Class<?>[] typeClasses, @NotNull Set<Class<?>> parentCustomClasses) {
-        return this.resolveType(Arrays.asList(typeClasses).iterator(), parentCustomClasses);
+    private @Nullable Type<?> resolveType(@Nullable Class<?>[] typeClasses, @NotNull Set<Class<?>> parentCustomClasses, @NotNull Set<Class<?>> annotations) {
+        return this.resolveType(Arrays.asList(typeClasses).iterator(), parentCustomClasses, annotations);
     }
 
-    private @Nullable Type<?> resolveType(@Nullable ParameterizedType generics, @NotNull Set<Class<?>> parentCustomClasses) {
+    private @Nullable Type<?> resolveType(@Nullable ParameterizedType generics, @NotNull Set<Class<?>> parentCustomClasses, @NotNull Set<Class<?>> annotations) {
         if (generics == null)
             return null;
 
@@ -384,7 +424,7 @@ public class AnnotationManagerImpl implements AnnotationManager {
             if (typeArgs.length != 1)
                 return null;
             java.lang.reflect.Type typeArg = typeArgs[0];
-            Type<?> type = typeArg instanceof ParameterizedType ? this.resolveType((ParameterizedType) typeArg, parentCustomClasses) : this.resolveType((Class<?>) typeArg, parentCustomClasses);
+            Type<?> type = typeArg instanceof ParameterizedType ? this.resolveType((ParameterizedType) typeArg, parentCustomClasses, annotations) : this.resolveType((Class<?>) typeArg, parentCustomClasses, annotations);
             if (type == null)
                 return null;
             return Type.list(type);
@@ -394,25 +434,25 @@ public class AnnotationManagerImpl implements AnnotationManager {
             if (typeArgs.length != 2)
                 return null;
             java.lang.reflect.Type keyTypeArg = typeArgs[0];
-            Type<?> keyType = keyTypeArg instanceof ParameterizedType ? this.resolveType((ParameterizedType) keyTypeArg, parentCustomClasses) : this.resolveType((Class<?>) keyTypeArg, parentCustomClasses);
+            Type<?> keyType = keyTypeArg instanceof ParameterizedType ? this.resolveType((ParameterizedType) keyTypeArg, parentCustomClasses, annotations) : this.resolveType((Class<?>) keyTypeArg, parentCustomClasses, annotations);
             if (keyType == null)
                 return null;
             java.lang.reflect.Type valueTypeArg = typeArgs[1];
-            Type<?> valueType = valueTypeArg instanceof ParameterizedType ? this.resolveType((ParameterizedType) valueTypeArg, parentCustomClasses) : this.resolveType((Class<?>) valueTypeArg, parentCustomClasses);
+            Type<?> valueType = valueTypeArg instanceof ParameterizedType ? this.resolveType((ParameterizedType) valueTypeArg, parentCustomClasses, annotations) : this.resolveType((Class<?>) valueTypeArg, parentCustomClasses, annotations);
             if (valueType == null)
                 return null;
             return Type.map(keyType, valueType);
         }
 
-        return this.resolveType(typeClass, parentCustomClasses);
+        return this.resolveType(typeClass, parentCustomClasses, annotations);
     }
 
-    private @Nullable Type<?> resolveType(@Nullable Field field, @NotNull Set<Class<?>> parentCustomClasses) {
+    private @Nullable Type<?> resolveType(@Nullable Field field, @NotNull Set<Class<?>> parentCustomClasses, @NotNull Set<Class<?>> annotations) {
         if (field == null)
             return null;
         if (field.getGenericType() instanceof ParameterizedType)
-            return this.resolveType((ParameterizedType) field.getGenericType(), parentCustomClasses);
-        return this.resolveType(field.getType(), parentCustomClasses);
+            return this.resolveType((ParameterizedType) field.getGenericType(), parentCustomClasses, annotations);
+        return this.resolveType(field.getType(), parentCustomClasses, annotations);
     }
 
     private void registerDefaultAnnotations() {
@@ -0,0 +1,141 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.impl;
+
+import io.github.almightysatan.jaskl.Committable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * An {@link OutputStream} that writes to a temporary file next to the target file and atomically moves it over the
+ * target when {@link #commit() committed}. Readers therefore either see the old or the new content, never a partially
+ * written file. If the stream is closed without being committed, e.g. because writing failed, the temporary file is
+ * deleted and the target is left untouched.
+ * <p>
+ * If the target is a symbolic link, the link itself is replaced by a regular file instead of writing through it.
+ * Committing fails with an {@link AtomicMoveNotSupportedException} if the file system does not support atomic moves.
+ */
+public class AtomicFileOutputStream extends OutputStream implements Committable {
+
+    private final Path target;
+    private final Path temp;
+    private final boolean sync;
+    private final FileChannel channel;
+    private final OutputStream out;
+    private boolean closed;
+
+    /**
+     * Creates a new {@link AtomicFileOutputStream}.
+     *
+     * @param target the file to replace
+     * @param sync   if {@code true} the content is forced to the storage device before the file is replaced
+     * @throws IOException if an I/O exception occurs
+     */
+    public AtomicFileOutputStream(@NotNull Path target, boolean sync) throws IOException {
+        this.target = Objects.requireNonNull(target).toAbsolutePath();
+        this.temp = this.target.resolveSibling("." + this.target.getFileName() + "." + Long.toHexString(ThreadLocalRandom.current().nextLong()) + ".tmp");
+        this.sync = sync;
+        this.channel = FileChannel.open(this.temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        this.out = new BufferedOutputStream(Channels.newOutputStream(this.channel));
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        this.out.write(b);
+    }
+
+    @Override
+    public void write(byte @NotNull [] b, int off, int len) throws IOException {
+        this.out.write(b, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.out.flush();
+    }
+
+    @Override
+    public void commit() throws IOException {
+        if (this.closed)
+            throw new IOException("Stream closed");
+        this.closed = true;
+
+        try {
+            this.out.flush();
+            if (this.sync)
+                this.channel.force(true);
+            this.channel.close();
+            copyPermissions(this.target, this.temp);
+            // Fails with an AtomicMoveNotSupportedException instead of falling back to a copy readers could observe
+            Files.move(this.temp, this.target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            this.channel.close();
+            Files.deleteIfExists(this.temp);
+            throw e;
+        }
+
+        if (this.sync)
+            syncDirectory(this.target.getParent());
+    }
+
+    /**
+     * Closes this stream. If it has not been committed, the temporary file is deleted and the target is left
+     * untouched.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed)
+            return;
+        this.closed = true;
+
+        try {
+            this.channel.close();
+        } finally {
+            Files.deleteIfExists(this.temp);
+        }
+    }
+
+    private static void copyPermissions(@NotNull Path source, @NotNull Path target) throws IOException {
+        try {
+            Files.setPosixFilePermissions(target, Files.getPosixFilePermissions(source));
+        } catch (NoSuchFileException | UnsupportedOperationException ignored) {
+            // The source does not exist yet or the file system does not support POSIX permissions
+        }
+    }
+
+    private static void syncDirectory(@NotNull Path directory) {
+        // Persists the rename itself. Not every platform allows opening a directory, in which case this is skipped.
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException ignored) {
+        }
+    }
+}
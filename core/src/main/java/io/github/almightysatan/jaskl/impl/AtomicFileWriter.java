@@ -0,0 +1,94 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.impl;
+
+import io.github.almightysatan.jaskl.Committable;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * A {@link Writer} that writes to a temporary file next to the target file and atomically moves it over the target
+ * when {@link #commit() committed}. Readers therefore either see the old or the new content, never a partially written
+ * file. If the writer is closed without being committed, e.g. because writing failed, the temporary file is deleted
+ * and the target is left untouched.
+ *
+ * @see AtomicFileOutputStream
+ */
+public class AtomicFileWriter extends Writer implements Committable {
+
+    private final AtomicFileOutputStream out;
+    private final Writer writer;
+    private boolean closed;
+
+    /**
+     * Creates a new {@link AtomicFileWriter}.
+     *
+     * @param target the file to replace
+     * @param sync   if {@code true} the content is forced to the storage device before the file is replaced
+     * @throws IOException if an I/O exception occurs
+     */
+    public AtomicFileWriter(@NotNull Path target, boolean sync) throws IOException {
+        this.out = new AtomicFileOutputStream(target, sync);
+        this.writer = new BufferedWriter(new OutputStreamWriter(this.out, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) throws IOException {
+        this.writer.write(cbuf, off, len);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        this.writer.flush();
+    }
+
+    @Override
+    public void commit() throws IOException {
+        if (this.closed)
+            throw new IOException("Writer closed");
+        this.closed = true;
+
+        try {
+            this.writer.flush();
+        } catch (IOException | RuntimeException e) {
+            this.out.close();
+            throw e;
+        }
+        this.out.commit();
+    }
+
+    /**
+     * Closes this writer. If it has not been committed, the temporary file is deleted and the target is left
+     * untouched.
+     *
+     * @throws IOException if an I/O exception occurs
+     */
+    @Override
+    public void close() throws IOException {
+        if (this.closed)
+            return;
+        this.closed = true;
+        this.out.close();
+    }
+}
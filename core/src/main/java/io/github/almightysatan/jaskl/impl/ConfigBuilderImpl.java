@@ -34,6 +34,7 @@ import java.util.Objects;
 public abstract class ConfigBuilderImpl<T, U> implements ConfigBuilder<T, U> {
 
     protected ExceptionHandler exceptionHandler;
+    protected boolean atomicReload;
 
     @SuppressWarnings("unchecked")
     @Override
@@ -42,6 +43,13 @@ public abstract class ConfigBuilderImpl<T, U> implements ConfigBuilder<T, U> {
         return (U) this;
     }
 
+    @SuppressWarnings("unchecked")
+    @Override
+    public @NotNull U withAtomicReload(boolean atomicReload) {
+        this.atomicReload = atomicReload;
+        return (U) this;
+    }
+
     public abstract static class ResourceConfigBuilderImpl<T, U> extends ConfigBuilderImpl<T, U> {
 
         protected final Resource resource;
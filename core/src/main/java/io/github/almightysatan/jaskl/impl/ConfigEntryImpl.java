@@ -24,17 +24,23 @@ import io.github.almightysatan.jaskl.ConfigEntry;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 public abstract class ConfigEntryImpl<T> implements ConfigEntry<T> {
 
     private final String path;
+    private final String[] pathSegments;
     private final String description;
     private final T defaultValue;
 
     public ConfigEntryImpl(@NotNull String path, @Nullable String description, @NotNull T defaultValue) {
         this.checkPath(Objects.requireNonNull(path));
         this.path = path;
+        this.pathSegments = splitPath(path);
+        for (int i = 0; i < this.pathSegments.length; i++)
+            this.pathSegments[i] = this.pathSegments[i].intern();
         this.description = description;
         this.defaultValue = Objects.requireNonNull(defaultValue);
     }
@@ -71,6 +77,16 @@ public abstract class ConfigEntryImpl<T> implements ConfigEntry<T> {
         return this.path;
     }
 
+    /**
+     * Returns the segments of this entry's path. Segments are interned, so entries sharing a common prefix also share
+     * the segment strings. The returned array is shared and must not be modified.
+     *
+     * @return the segments of this entry's path
+     */
+    public @NotNull String @NotNull [] getPathSegments() {
+        return this.pathSegments;
+    }
+
     @Override
     public @Nullable String getDescription() {
         return this.description;
@@ -80,4 +96,22 @@ public abstract class ConfigEntryImpl<T> implements ConfigEntry<T> {
     public @NotNull T getDefaultValue() {
         return this.defaultValue;
     }
+
+    /**
+     * Splits a dotted path into its segments.
+     *
+     * @param path the dotted path
+     * @return the segments
+     */
+    static @NotNull String @NotNull [] splitPath(@NotNull String path) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int index;
+        while ((index = path.indexOf('.', start)) != -1) {
+            segments.add(path.substring(start, index));
+            start = index + 1;
+        }
+        segments.add(path.substring(start));
+        return segments.toArray(new String[0]);
+    }
 }
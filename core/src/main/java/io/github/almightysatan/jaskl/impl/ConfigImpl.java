@@ -23,10 +23,12 @@ package io.github.almightysatan.jaskl.impl;
 import io.github.almightysatan.jaskl.*;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.Unmodifiable;
 import org.jetbrains.annotations.UnmodifiableView;
 
 import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.*;
 
 public abstract class ConfigImpl implements Config {
 
@@ -56,33 +58,182 @@ public abstract class ConfigImpl implements Config {
 
     private final String description;
     private final Map<String, ConfigEntry<?>> entries = new HashMap<>();
+    private final PathNode pathIndex = new PathNode();
     private final ExceptionHandler exceptionHandler;
     private final DescriptionFormatter descriptionFormatter;
+    private final boolean atomicReload;
+    private final List<ConfigListener> listeners = new CopyOnWriteArrayList<>();
+    private final Object updateLock = new Object(); // Held while an update runs, updates of different threads are serialized
+    private volatile Thread updatingThread;
+    private Map<WritableConfigEntryImpl<?>, ValueChange> pendingChanges; // Only accessed by the updating thread
+
+    // Asynchronous writes. All pending writes are coalesced into a single write.
+    private final Object pendingWriteLock = new Object();
+    private final Object writeLock = new Object(); // Serializes write, reload and prune with pending writes
+    private CompletableFuture<Void> pendingWrite;
+    private ScheduledFuture<?> pendingWriteTask;
+    private long pendingWriteDeadline;
+
+    private volatile Object resourceFingerprint; // The fingerprint of the resource at the time of the last reloadIfChanged
+
+    // Only used if atomicReload is true. Readers never lock, all writers synchronize on snapshotLock.
+    private final Object snapshotLock = new Object();
+    private final List<WritableConfigEntryImpl<?>> snapshotEntries = new ArrayList<>();
+    private volatile Object[] snapshot = new Object[16];
+    private Object[] pendingSnapshot;
+    private BitSet pendingClean;
 
     public ConfigImpl(@Nullable String description, @Nullable ExceptionHandler exceptionHandler, @Nullable DescriptionFormatter descriptionFormatter) {
+        this(description, exceptionHandler, descriptionFormatter, false);
+    }
+
+    public ConfigImpl(@Nullable String description, @Nullable ExceptionHandler exceptionHandler, @Nullable DescriptionFormatter descriptionFormatter, boolean atomicReload) {
         this.description = description;
         this.exceptionHandler = exceptionHandler != null ? exceptionHandler : DEFAULT_EXCEPTION_HANDLER;
         this.descriptionFormatter = descriptionFormatter != null ? descriptionFormatter : DEFAULT_COMMENT_FORMATTER;
+        this.atomicReload = atomicReload;
     }
 
     public void registerEntry(@NotNull ConfigEntry<?> entry) {
         Objects.requireNonNull(entry);
 
-        String entryPathDot = entry.getPath() + ".";
-        for (String path : this.getPaths()) {
-            if (path.equals(entry.getPath()))
-                throw new IllegalArgumentException(String.format("Duplicate path %s", entry.getPath()));
-
-            if (path.startsWith(entryPathDot) || entry.getPath().startsWith(path + "."))
+        PathNode node = this.pathIndex;
+        String[] pathSegments = entry instanceof WritableConfigEntry ? ((WritableConfigEntry<?>) entry).getPathSegments() : ConfigEntryImpl.splitPath(entry.getPath());
+        for (String segment : pathSegments) {
+            if (node.entry != null)
                 throw new IllegalArgumentException(String.format("Paths have to be prefix-free! %s", entry.getPath()));
+            node = node.children.computeIfAbsent(segment, key -> new PathNode());
         }
+        if (node.entry != null)
+            throw new IllegalArgumentException(String.format("Duplicate path %s", entry.getPath()));
+        if (!node.children.isEmpty())
+            throw new IllegalArgumentException(String.format("Paths have to be prefix-free! %s", entry.getPath()));
 
+        node.entry = entry;
         this.entries.put(entry.getPath(), entry);
+
+        if (entry instanceof WritableConfigEntryImpl) {
+            ((WritableConfigEntryImpl<?>) entry).attachConfig(this);
+            if (this.atomicReload)
+                this.registerSnapshotEntry((WritableConfigEntryImpl<?>) entry);
+        }
+    }
+
+    @Override
+    public boolean reloadIfChanged() throws IOException, IllegalStateException, InvalidTypeException, ValidationException {
+        Resource resource = this.getResource();
+        if (resource == null) {
+            this.reload();
+            return true;
+        }
+
+        // The fingerprint is taken before reading, so concurrent modifications are detected by the next call
+        Object fingerprint = resource.getFingerprint();
+        if (fingerprint != null && fingerprint.equals(this.resourceFingerprint))
+            return false;
+        this.resourceFingerprint = null;
+        this.reload();
+        this.resourceFingerprint = fingerprint;
+        return true;
+    }
+
+    /**
+     * Returns the {@link Resource} this config is loaded from. Used by {@link #reloadIfChanged()} to detect changes.
+     *
+     * @return the resource or {@code null} if this config is not backed by a resource
+     */
+    protected @Nullable Resource getResource() {
+        return null;
     }
 
     @Override
     public void reset() {
-        this.getEntries().forEach(ConfigEntry::reset);
+        this.updateValues(() -> this.getEntries().forEach(ConfigEntry::reset));
+    }
+
+    @Override
+    public void addListener(@NotNull ConfigListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public void removeListener(@NotNull ConfigListener listener) {
+        this.listeners.remove(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public @NotNull CompletableFuture<Void> writeAsync(long delayMillis) {
+        if (delayMillis < 0)
+            throw new IllegalArgumentException("delayMillis must not be negative");
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMillis);
+        synchronized (this.pendingWriteLock) {
+            if (this.pendingWrite == null)
+                this.pendingWrite = new CompletableFuture<>();
+            else if (deadline - this.pendingWriteDeadline >= 0 || !this.pendingWriteTask.cancel(false))
+                return this.pendingWrite;
+
+            this.pendingWriteDeadline = deadline;
+            this.pendingWriteTask = AsyncWriter.EXECUTOR.schedule(this::startPendingWrite, delayMillis, TimeUnit.MILLISECONDS);
+            return this.pendingWrite;
+        }
+    }
+
+    /**
+     * Returns the {@link Executor} that writes pending changes scheduled with {@link #writeAsync(long)} once they are
+     * due. By default, they are written by the background thread shared by all configs. Implementations whose writes
+     * may block for a long time, e.g. because of network I/O, should return their own executor, so the asynchronous
+     * writes of other configs are not delayed.
+     *
+     * @return the executor
+     */
+    protected @NotNull Executor getWriteExecutor() {
+        return Runnable::run;
+    }
+
+    private void startPendingWrite() {
+        try {
+            this.getWriteExecutor().execute(this::flushPendingWrite);
+        } catch (RejectedExecutionException e) {
+            this.flushPendingWrite();
+        }
+    }
+
+    /**
+     * Returns the lock held while a pending write scheduled with {@link #writeAsync(long)} is written. Implementations
+     * must hold it while they access their resource or the data read from it in {@link #load()}, {@link #reload()},
+     * {@link #write()} and {@link #prune()}, so these methods never run concurrently with an asynchronous write.
+     *
+     * @return the write lock
+     */
+    protected final @NotNull Object getWriteLock() {
+        return this.writeLock;
+    }
+
+    /**
+     * Immediately writes pending changes scheduled with {@link #writeAsync(long)} and waits for a write that is
+     * currently in progress. Implementations should call this method before closing their resources in
+     * {@link #close()}.
+     */
+    protected void flushPendingWrite() {
+        synchronized (this.writeLock) {
+            CompletableFuture<Void> future;
+            synchronized (this.pendingWriteLock) {
+                future = this.pendingWrite;
+                if (future == null)
+                    return;
+                this.pendingWriteTask.cancel(false);
+                this.pendingWrite = null;
+                this.pendingWriteTask = null;
+            }
+
+            try {
+                this.write();
+                future.complete(null);
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        }
     }
 
     @Override
@@ -110,11 +261,199 @@ public abstract class ConfigImpl implements Config {
         return Collections.unmodifiableCollection(this.getEntryMap().values());
     }
 
+    @Override
+    public @Unmodifiable @NotNull Collection<@NotNull ConfigEntry<?>> getEntries(@NotNull String path) {
+        Objects.requireNonNull(path);
+        PathNode node = this.pathIndex;
+        for (String segment : ConfigEntryImpl.splitPath(path)) {
+            node = node.children.get(segment);
+            if (node == null)
+                return Collections.emptyList();
+        }
+
+        List<ConfigEntry<?>> entries = new ArrayList<>();
+        node.collectEntries(entries);
+        return Collections.unmodifiableList(entries);
+    }
+
+    private static class AsyncWriter {
+
+        // Created when the first asynchronous write is scheduled
+        private static final ScheduledExecutorService EXECUTOR;
+
+        static {
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1, runnable -> {
+                Thread thread = new Thread(runnable, "JASKL Async Writer");
+                thread.setDaemon(true);
+                return thread;
+            });
+            executor.setRemoveOnCancelPolicy(true);
+            EXECUTOR = executor;
+        }
+    }
+
+    /**
+     * Returns the root of the segment trie containing the paths of all registered entries.
+     *
+     * @return the root node
+     */
+    protected @NotNull PathNode getPathIndex() {
+        return this.pathIndex;
+    }
+
     @SuppressWarnings({"unchecked", "rawtypes"})
     protected @NotNull Collection<WritableConfigEntry<?>> getCastedValues() {
         return (Collection<WritableConfigEntry<?>>) (Collection) getEntryMap().values();
     }
 
+    /**
+     * Runs the given update. If this config uses atomic reloads, all values put into entries during the update are
+     * staged in a copy of the current snapshot and published at once after the update completed successfully. Readers
+     * therefore either observe all old or all new values. If the update throws, the staged values are discarded.
+     * Without atomic reloads the update is simply run.
+     * <p>
+     * Updates are serialized, so concurrent reloads (e.g. by a {@link io.github.almightysatan.jaskl.ConfigWatcher}) do
+     * not interfere. Listeners are notified of all values changed by the update once it completed. Without atomic
+     * reloads this includes values changed before the update failed.
+     *
+     * @param update the update, usually putting the values of the storage location into the entries
+     * @param <E>    the type of exception thrown by the update
+     * @throws E if the update throws
+     */
+    protected <E extends Exception> void updateValues(@NotNull ValueUpdate<E> update) throws E {
+        if (this.updatingThread == Thread.currentThread()) {
+            // Nested update, the outer update publishes the values
+            update.run();
+            return;
+        }
+
+        Map<WritableConfigEntryImpl<?>, ValueChange> changes = new LinkedHashMap<>();
+        try {
+            synchronized (this.updateLock) {
+                if (!this.atomicReload) {
+                    this.pendingChanges = changes;
+                    this.updatingThread = Thread.currentThread();
+                    try {
+                        update.run();
+                    } finally {
+                        this.updatingThread = null;
+                        this.pendingChanges = null;
+                    }
+                } else {
+                    synchronized (this.snapshotLock) {
+                        this.pendingSnapshot = this.snapshot.clone();
+                        this.pendingClean = new BitSet();
+                        this.pendingChanges = changes;
+                        this.updatingThread = Thread.currentThread();
+                        try {
+                            update.run();
+                            this.snapshot = this.pendingSnapshot;
+                            for (int i = this.pendingClean.nextSetBit(0); i >= 0; i = this.pendingClean.nextSetBit(i + 1))
+                                this.snapshotEntries.get(i).markClean();
+                        } finally {
+                            this.updatingThread = null;
+                            this.pendingSnapshot = null;
+                            this.pendingClean = null;
+                            this.pendingChanges = null;
+                        }
+                    }
+                }
+            }
+        } catch (Throwable e) {
+            // Without atomic reloads the values changed before the failure are kept
+            if (!this.atomicReload) {
+                try {
+                    this.notifyListeners(changes.values());
+                } catch (RuntimeException | Error suppressed) {
+                    e.addSuppressed(suppressed);
+                }
+            }
+            throw e;
+        }
+        this.notifyListeners(changes.values());
+    }
+
+    /**
+     * Returns {@code true} if the values of this config's entries are published as one snapshot.
+     *
+     * @return {@code true} if this config uses atomic reloads
+     */
+    public boolean isAtomicReload() {
+        return this.atomicReload;
+    }
+
+    private void registerSnapshotEntry(@NotNull WritableConfigEntryImpl<?> entry) {
+        synchronized (this.snapshotLock) {
+            int index = this.snapshotEntries.size();
+            Object[] snapshot = this.snapshot;
+            if (index == snapshot.length)
+                snapshot = Arrays.copyOf(snapshot, snapshot.length * 2);
+            // Nobody reads this index yet, so the published array can be extended in place
+            snapshot[index] = entry.getValue();
+            this.snapshot = snapshot;
+            if (this.pendingSnapshot != null) {
+                if (index >= this.pendingSnapshot.length)
+                    this.pendingSnapshot = Arrays.copyOf(this.pendingSnapshot, snapshot.length);
+                this.pendingSnapshot[index] = snapshot[index];
+            }
+            this.snapshotEntries.add(entry);
+            entry.attachSnapshot(this, index);
+        }
+    }
+
+    @Nullable Object getSnapshotValue(int index) {
+        if (this.updatingThread == Thread.currentThread())
+            return this.pendingSnapshot[index];
+        return this.snapshot[index];
+    }
+
+    void putSnapshotValue(int index, @NotNull Object value, boolean clean) {
+        synchronized (this.snapshotLock) {
+            if (this.pendingSnapshot != null) {
+                this.pendingSnapshot[index] = value;
+                if (clean)
+                    this.pendingClean.set(index);
+                else
+                    this.pendingClean.clear(index);
+            } else {
+                Object[] snapshot = this.snapshot.clone();
+                snapshot[index] = value;
+                this.snapshot = snapshot;
+                if (clean)
+                    this.snapshotEntries.get(index).markClean();
+            }
+        }
+    }
+
+    void entryChanged(@NotNull WritableConfigEntryImpl<?> entry, @NotNull Object oldValue, @NotNull Object newValue) {
+        if (this.updatingThread == Thread.currentThread()) {
+            // Only the first old and the last new value are of interest if a value changes multiple times
+            ValueChange change = this.pendingChanges.get(entry);
+            if (change == null)
+                this.pendingChanges.put(entry, new ValueChange(entry, oldValue, newValue));
+            else
+                change.newValue = newValue;
+            return;
+        }
+        this.notifyListeners(Collections.singletonList(new ValueChange(entry, oldValue, newValue)));
+    }
+
+    private void notifyListeners(@NotNull Collection<ValueChange> changes) {
+        Set<String> changedPaths = new LinkedHashSet<>();
+        for (ValueChange change : changes) {
+            if (change.oldValue.equals(change.newValue))
+                continue;
+            change.entry.notifyListeners(change.oldValue, change.newValue);
+            changedPaths.add(change.entry.getPath());
+        }
+
+        if (changedPaths.isEmpty())
+            return;
+        Set<String> unmodifiableChangedPaths = Collections.unmodifiableSet(changedPaths);
+        for (ConfigListener listener : this.listeners)
+            listener.onChange(unmodifiableChangedPaths);
+    }
+
     public @NotNull ExceptionHandler getExceptionHandler() {
         return this.exceptionHandler;
     }
@@ -122,4 +461,64 @@ public abstract class ConfigImpl implements Config {
     public @NotNull DescriptionFormatter getCommentFormatter() {
         return this.descriptionFormatter;
     }
+
+    /**
+     * An update of entry values, see {@link #updateValues(ValueUpdate)}.
+     *
+     * @param <E> the type of exception thrown by the update
+     */
+    @FunctionalInterface
+    protected interface ValueUpdate<E extends Exception> {
+
+        void run() throws E;
+    }
+
+    private static final class ValueChange {
+
+        private final WritableConfigEntryImpl<?> entry;
+        private final Object oldValue;
+        private Object newValue;
+
+        private ValueChange(@NotNull WritableConfigEntryImpl<?> entry, @NotNull Object oldValue, @NotNull Object newValue) {
+            this.entry = entry;
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+        }
+    }
+
+    /**
+     * A node of the segment trie used to index the paths of all registered entries. Since paths have to be
+     * prefix-free, a node either holds an entry or has children but never both.
+     */
+    protected static final class PathNode {
+
+        private final Map<String, PathNode> children = new HashMap<>();
+        private ConfigEntry<?> entry;
+
+        /**
+         * Returns the child node for the given path segment.
+         *
+         * @param segment the path segment
+         * @return the child node or {@code null} if no entry path continues with the given segment
+         */
+        public @Nullable PathNode getChild(@NotNull String segment) {
+            return this.children.get(segment);
+        }
+
+        /**
+         * Returns the entry whose path ends at this node.
+         *
+         * @return the entry or {@code null} if this node has children
+         */
+        public @Nullable ConfigEntry<?> getEntry() {
+            return this.entry;
+        }
+
+        private void collectEntries(@NotNull List<ConfigEntry<?>> entries) {
+            if (this.entry != null)
+                entries.add(this.entry);
+            for (PathNode child : this.children.values())
+                child.collectEntries(entries);
+        }
+    }
 }
@@ -0,0 +1,113 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.impl;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ConfigLoadException;
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class ConfigLoader {
+
+    private static final Method NEW_VIRTUAL_THREAD_EXECUTOR = findVirtualThreadExecutorFactory();
+
+    private ConfigLoader() {
+    }
+
+    public static void loadAll(@NotNull Collection<? extends @NotNull Config> configs) throws ConfigLoadException {
+        if (configs.isEmpty())
+            return;
+
+        ExecutorService executor = createExecutor(configs.size());
+        try {
+            loadAll(configs, executor);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    public static void loadAll(@NotNull Collection<? extends @NotNull Config> configs, @NotNull Executor executor) throws ConfigLoadException {
+        Objects.requireNonNull(executor);
+
+        // A config contained multiple times is only loaded once
+        Map<Config, CompletableFuture<Exception>> futures = new IdentityHashMap<>();
+        List<Config> order = new ArrayList<>();
+        for (Config config : configs) {
+            Objects.requireNonNull(config);
+            if (futures.containsKey(config))
+                continue;
+            order.add(config);
+            futures.put(config, CompletableFuture.supplyAsync(() -> {
+                try {
+                    config.load();
+                    return null;
+                } catch (Exception e) {
+                    return e;
+                }
+            }, executor));
+        }
+
+        Map<Config, Exception> failures = new LinkedHashMap<>();
+        for (Config config : order) {
+            Exception exception = futures.get(config).join();
+            if (exception != null)
+                failures.put(config, exception);
+        }
+
+        if (!failures.isEmpty())
+            throw new ConfigLoadException(failures);
+    }
+
+    /**
+     * Creates a virtual thread per task executor if running on Java 21 or newer. Otherwise, a thread pool with at most
+     * one thread per processor is created.
+     *
+     * @param tasks the number of tasks
+     * @return a new executor
+     */
+    private static @NotNull ExecutorService createExecutor(int tasks) {
+        if (NEW_VIRTUAL_THREAD_EXECUTOR != null) {
+            try {
+                return (ExecutorService) NEW_VIRTUAL_THREAD_EXECUTOR.invoke(null);
+            } catch (ReflectiveOperationException ignored) {
+            }
+        }
+
+        AtomicInteger threadId = new AtomicInteger();
+        return Executors.newFixedThreadPool(Math.min(tasks, Runtime.getRuntime().availableProcessors()), runnable -> {
+            Thread thread = new Thread(runnable, "JASKL Config Loader #" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    private static Method findVirtualThreadExecutorFactory() {
+        try {
+            return Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,233 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.impl;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ConfigWatcher;
+import io.github.almightysatan.jaskl.ExceptionHandler;
+import io.github.almightysatan.jaskl.Resource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+public class ConfigWatcherImpl implements ConfigWatcher {
+
+    private final long debounceNanos;
+    private final BiConsumer<Config, Exception> exceptionHandler;
+    private final WatchService watchService;
+    private final Thread thread;
+    private final Map<Path, WatchKey> directories = new HashMap<>();
+    private final Map<Path, WatchedFile> files = new HashMap<>();
+    private final Map<Config, WatchedFile> configs = new HashMap<>();
+    private boolean closed;
+
+    public ConfigWatcherImpl(long debounceMillis, @Nullable BiConsumer<Config, Exception> exceptionHandler) throws IOException {
+        this.debounceNanos = TimeUnit.MILLISECONDS.toNanos(debounceMillis);
+        this.exceptionHandler = exceptionHandler;
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.thread = new Thread(this::run, "JASKL Config Watcher");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public synchronized void watch(@NotNull Config config, @NotNull File file) throws IOException, IllegalStateException {
+        Objects.requireNonNull(config);
+        Objects.requireNonNull(file);
+        if (this.closed)
+            throw new IllegalStateException();
+
+        this.unwatch(config);
+        Path path = file.toPath().toAbsolutePath().normalize();
+        Path directory = path.getParent();
+        if (!this.directories.containsKey(directory))
+            this.directories.put(directory, directory.register(this.watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_DELETE));
+
+        WatchedFile watchedFile = this.files.get(path);
+        if (watchedFile == null) {
+            watchedFile = new WatchedFile(path);
+            watchedFile.hasChanged(); // Take the initial fingerprint
+            this.files.put(path, watchedFile);
+        }
+        watchedFile.configs.add(config);
+        this.configs.put(config, watchedFile);
+    }
+
+    @Override
+    public synchronized void unwatch(@NotNull Config config) {
+        WatchedFile watchedFile = this.configs.remove(Objects.requireNonNull(config));
+        if (watchedFile == null)
+            return;
+
+        watchedFile.configs.remove(config);
+        if (!watchedFile.configs.isEmpty())
+            return;
+        this.files.remove(watchedFile.path);
+
+        Path directory = watchedFile.path.getParent();
+        for (Path path : this.files.keySet())
+            if (path.getParent().equals(directory))
+                return;
+        this.directories.remove(directory).cancel();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (this.closed)
+            return;
+        this.closed = true;
+        this.directories.clear();
+        this.files.clear();
+        this.configs.clear();
+        try {
+            this.watchService.close();
+        } catch (IOException ignored) {
+            this.thread.interrupt();
+        }
+    }
+
+    private void run() {
+        try {
+            long deadline = Long.MAX_VALUE;
+            while (true) {
+                WatchKey key;
+                if (deadline == Long.MAX_VALUE)
+                    key = this.watchService.take();
+                else
+                    key = this.watchService.poll(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                if (key != null) {
+                    this.handleEvents(key);
+                    key.reset();
+                }
+                deadline = this.reloadDueFiles();
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+            // The watcher has been closed
+        }
+    }
+
+    private synchronized void handleEvents(@NotNull WatchKey key) {
+        Path directory = (Path) key.watchable();
+        long deadline = System.nanoTime() + this.debounceNanos;
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events have been lost, check every file in this directory
+                for (WatchedFile watchedFile : this.files.values())
+                    if (watchedFile.path.getParent().equals(directory))
+                        watchedFile.deadline = deadline;
+                continue;
+            }
+
+            WatchedFile watchedFile = this.files.get(directory.resolve((Path) event.context()));
+            if (watchedFile != null)
+                watchedFile.deadline = deadline;
+        }
+    }
+
+    /**
+     * Reloads all configs whose files have not been modified for the debounce time.
+     *
+     * @return the next time a file is due or {@link Long#MAX_VALUE} if no file is pending
+     */
+    private long reloadDueFiles() {
+        List<WatchedFile> dueFiles = new ArrayList<>();
+        long nextDeadline = Long.MAX_VALUE;
+        synchronized (this) {
+            long now = System.nanoTime();
+            for (WatchedFile watchedFile : this.files.values()) {
+                if (watchedFile.deadline == Long.MAX_VALUE)
+                    continue;
+                if (watchedFile.deadline - now <= 0) {
+                    watchedFile.deadline = Long.MAX_VALUE;
+                    dueFiles.add(watchedFile);
+                } else
+                    nextDeadline = Math.min(nextDeadline, watchedFile.deadline);
+            }
+        }
+
+        for (WatchedFile watchedFile : dueFiles) {
+            if (!watchedFile.hasChanged())
+                continue;
+            for (Config config : watchedFile.configs) {
+                try {
+                    config.reload();
+                } catch (Exception e) {
+                    if (this.exceptionHandler != null)
+                        this.exceptionHandler.accept(config, e);
+                    else {
+                        ExceptionHandler handler = config instanceof ConfigImpl ? ((ConfigImpl) config).getExceptionHandler() : ConfigImpl.DEFAULT_EXCEPTION_HANDLER;
+                        handler.handleBackground(config, e);
+                    }
+                }
+            }
+        }
+        return nextDeadline;
+    }
+
+    private static class WatchedFile {
+
+        private final Path path;
+        private final Resource content; // Fingerprinted by hashing its content
+        private final List<Config> configs = new CopyOnWriteArrayList<>();
+        private long deadline = Long.MAX_VALUE;
+        private Object fingerprint;
+
+        private WatchedFile(@NotNull Path path) {
+            this.path = path;
+            this.content = new ReadOnlyResource() {
+                @Override
+                public @NotNull InputStream getInputStream() throws IOException {
+                    return Files.newInputStream(path);
+                }
+            };
+        }
+
+        /**
+         * Updates the fingerprint of this file. The content is always hashed, since the size and modification time of
+         * a file do not necessarily change if it has been modified.
+         *
+         * @return {@code true} if the file exists and its content changed since the last call
+         */
+        private synchronized boolean hasChanged() {
+            try {
+                Object fingerprint = this.content.getFingerprint();
+                if (Objects.equals(fingerprint, this.fingerprint))
+                    return false;
+                this.fingerprint = fingerprint;
+                return true;
+            } catch (IOException e) {
+                // The file does not exist (anymore). Reset the fingerprint so recreating it triggers a reload.
+                this.fingerprint = null;
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.impl;
+
+import io.github.almightysatan.jaskl.ExceptionHandler;
+import io.github.almightysatan.jaskl.InvalidTypeException;
+import io.github.almightysatan.jaskl.Type;
+import io.github.almightysatan.jaskl.ValidationException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A config entry that is backed by a field of an annotated config class. Changes made to the field are picked up
+ * when the entry is read or written and values loaded from the config are written back to the field.
+ * <p>
+ * Used by {@link AnnotationManagerImpl} and by the code generated by the JASKL annotation processor.
+ *
+ * @param <T> the type of the entry's value
+ */
+public class FieldConfigEntry<T> extends WritableConfigEntryImpl<T> {
+
+    private final Supplier<T> getter;
+    private final Consumer<T> setter;
+    private Object prevFieldValue;
+
+    /**
+     * Creates a new {@link FieldConfigEntry}.
+     *
+     * @param type         the type
+     * @param path         the case-sensitive dotted path
+     * @param description  the possibly-null description
+     * @param defaultValue the default value, usually the initial value of the field
+     * @param getter       reads the field
+     * @param setter       writes the field
+     * @throws InvalidTypeException if the default value's type is invalid
+     * @throws ValidationException  if the default value fails validation
+     */
+    public FieldConfigEntry(@NotNull Type<T> type, @NotNull String path, @Nullable String description, @NotNull T defaultValue,
+                            @NotNull Supplier<T> getter, @NotNull Consumer<T> setter) throws InvalidTypeException, ValidationException {
+        super(type, path, description, defaultValue);
+        this.getter = Objects.requireNonNull(getter);
+        this.setter = Objects.requireNonNull(setter);
+        this.prevFieldValue = defaultValue;
+    }
+
+    @Override
+    public @NotNull T getValue() {
+        this.checkField();
+        return super.getValue();
+    }
+
+    @Override
+    public @NotNull Object getValueToWrite(@NotNull Function<@NotNull Object, @NotNull Object> keyPreprocessor) throws InvalidTypeException, ValidationException {
+        this.checkField();
+        return super.getValueToWrite(keyPreprocessor);
+    }
+
+    @Override
+    public void setValue(@NotNull T value) throws InvalidTypeException, ValidationException {
+        super.setValue(value);
+        this.setField(super.getValue());
+    }
+
+    @Override
+    public void putValue(@NotNull Object value, @NotNull ExceptionHandler exceptionHandler) throws InvalidTypeException, ValidationException {
+        super.putValue(value, exceptionHandler);
+        this.setField(super.getValue());
+    }
+
+    @Override
+    public boolean isModified() {
+        return this.checkField() || super.isModified();
+    }
+
+    private boolean checkField() {
+        T fieldValue = this.getter.get();
+        if (this.prevFieldValue != fieldValue) {
+            this.setValue(fieldValue);
+            return true;
+        }
+        return false;
+    }
+
+    private void setField(@NotNull T value) {
+        this.setter.accept(value);
+        this.prevFieldValue = value;
+    }
+}
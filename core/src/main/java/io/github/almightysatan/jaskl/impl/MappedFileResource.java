@@ -0,0 +1,105 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.impl;
+
+import io.github.almightysatan.jaskl.Resource;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+
+/**
+ * A file {@link Resource} that is read through a read-only memory mapping instead of a stream. Every call to
+ * {@link #getInputStream()} maps the current content of the file, so changes made by {@link #getOutputStream()} or
+ * other processes are visible to subsequent reads. Writing is the same as for {@link Resource#of(Path, WriteMode)}.
+ */
+public class MappedFileResource implements Resource {
+
+    private final Path path;
+    private final Resource fileResource;
+
+    public MappedFileResource(@NotNull Path path, @NotNull WriteMode writeMode) {
+        this.path = Objects.requireNonNull(path);
+        this.fileResource = Resource.of(path, writeMode);
+    }
+
+    /**
+     * Maps the current content of the file into memory.
+     *
+     * @return a read-only buffer containing the content of the file
+     * @throws IOException if an I/O exception occurs or the file is larger than 2 GiB
+     */
+    public @NotNull MappedByteBuffer map() throws IOException {
+        try (FileChannel channel = FileChannel.open(this.path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > Integer.MAX_VALUE)
+                throw new IOException("File is too large to be mapped: " + this.path);
+            // The mapping stays valid after the channel has been closed
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+    }
+
+    @Override
+    public boolean exists() throws IOException {
+        return this.fileResource.exists();
+    }
+
+    @Override
+    public void createIfNotExists() throws IOException {
+        this.fileResource.createIfNotExists();
+    }
+
+    @Override
+    public @NotNull Reader getReader() throws IOException {
+        return new InputStreamReader(this.getInputStream(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public @NotNull InputStream getInputStream() throws IOException {
+        return new ByteBufferInputStream(this.map());
+    }
+
+    @Override
+    public @NotNull Writer getWriter() throws IOException {
+        return this.fileResource.getWriter();
+    }
+
+    @Override
+    public @NotNull OutputStream getOutputStream() throws IOException {
+        return this.fileResource.getOutputStream();
+    }
+
+    @Override
+    public boolean isReadOnly() throws IOException {
+        return this.fileResource.isReadOnly();
+    }
+
+    @Override
+    public @Nullable Object getFingerprint() throws IOException {
+        return this.fileResource.getFingerprint();
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.impl;
+
+import io.github.almightysatan.jaskl.Resource;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A {@link Resource} that always exists and cannot be written. Only {@link #getInputStream()} has to be implemented.
+ */
+public abstract class ReadOnlyResource implements Resource {
+
+    @Override
+    public boolean exists() {
+        return true;
+    }
+
+    @Override
+    public void createIfNotExists() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull Reader getReader() throws IOException {
+        return new InputStreamReader(this.getInputStream(), StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public abstract @NotNull InputStream getInputStream() throws IOException;
+
+    @Override
+    public @NotNull Writer getWriter() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public @NotNull OutputStream getOutputStream() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+package io.github.almightysatan.jaskl.impl;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * An {@link InputStream} that encodes the characters of a {@link Reader} as UTF-8 while they are read. Only a small
+ * buffer is held in memory, so the content is never copied as a whole.
+ */
+public class ReaderInputStream extends InputStream {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    private final Reader reader;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    // Both buffers are kept ready for reading. Buffer methods are called on Buffer, as they are overridden with
+    // covariant return types since Java 9, which would not link on Java 8.
+    private final CharBuffer chars = CharBuffer.allocate(BUFFER_SIZE);
+    private final ByteBuffer bytes = ByteBuffer.allocate(BUFFER_SIZE * 3);
+    private boolean endOfInput;
+    private boolean flushed;
+
+    /**
+     * Creates a new {@link ReaderInputStream}. Closing the stream closes the given reader.
+     *
+     * @param reader the reader
+     */
+    public ReaderInputStream(@NotNull Reader reader) {
+        this.reader = Objects.requireNonNull(reader);
+        ((Buffer) this.chars).flip();
+        ((Buffer) this.bytes).flip();
+    }
+
+    @Override
+    public int read() throws IOException {
+        return this.fill() ? this.bytes.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte @NotNull [] b, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+        if (!this.fill())
+            return -1;
+        len = Math.min(len, this.bytes.remaining());
+        this.bytes.get(b, off, len);
+        return len;
+    }
+
+    @Override
+    public int available() {
+        return this.bytes.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.reader.close();
+    }
+
+    /**
+     * Encodes further characters if all encoded bytes have been read.
+     *
+     * @return {@code false} if the end of the stream has been reached
+     * @throws IOException if an I/O exception occurs
+     */
+    private boolean fill() throws IOException {
+        while (!this.bytes.hasRemaining()) {
+            if (this.flushed)
+                return false;
+
+            ((Buffer) this.bytes).clear();
+            if (!this.endOfInput) {
+                this.chars.compact();
+                if (this.reader.read(this.chars) == -1)
+                    this.endOfInput = true;
+                ((Buffer) this.chars).flip();
+            }
+            // Characters that do not fit into the byte buffer are encoded by the next call
+            this.encoder.encode(this.chars, this.bytes, this.endOfInput);
+            if (this.endOfInput && !this.chars.hasRemaining()) {
+                this.encoder.flush(this.bytes);
+                this.flushed = true;
+            }
+            ((Buffer) this.bytes).flip();
+        }
+        return true;
+    }
+}
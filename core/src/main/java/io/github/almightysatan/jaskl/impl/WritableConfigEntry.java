@@ -59,6 +59,21 @@ public interface WritableConfigEntry<T> extends ConfigEntry<T> {
 
     boolean isModified();
 
+    /**
+     * Marks this entry as modified, so its value is written again by the next write. Should be called if the value
+     * returned by {@link #getValueToWrite(Function)} could not be written.
+     */
+    void markModified();
+
+    /**
+     * Returns the segments of this entry's path. The returned array must not be modified.
+     *
+     * @return the segments of this entry's path
+     */
+    default @NotNull String @NotNull [] getPathSegments() {
+        return ConfigEntryImpl.splitPath(this.getPath());
+    }
+
     default WritableConfigEntry<T> register(@NotNull Config config) {
         Objects.requireNonNull(config);
         ((ConfigImpl) config).registerEntry(this);
@@ -20,6 +20,7 @@
 
 package io.github.almightysatan.jaskl.impl;
 
+import io.github.almightysatan.jaskl.EntryListener;
 import io.github.almightysatan.jaskl.ExceptionHandler;
 import io.github.almightysatan.jaskl.InvalidTypeException;
 import io.github.almightysatan.jaskl.Type;
@@ -27,14 +28,20 @@ import io.github.almightysatan.jaskl.ValidationException;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.List;
 import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.function.Function;
 
 public class WritableConfigEntryImpl<T> extends ConfigEntryImpl<T> implements WritableConfigEntry<T> {
 
     private final Type<T> type;
-    private T value;
-    private boolean modified = true; // true by default because Config#write should write the entry to the config if it does not exist
+    private volatile T value;
+    private volatile boolean modified = true; // true by default because Config#write should write the entry to the config if it does not exist
+    private volatile ConfigImpl snapshotConfig; // only set if the config publishes its values as one snapshot
+    private int snapshotIndex;
+    private volatile ConfigImpl config;
+    private final List<EntryListener<? super T>> listeners = new CopyOnWriteArrayList<>();
 
     public WritableConfigEntryImpl(@NotNull Type<T> type, @NotNull String path, @Nullable String description, @NotNull T defaultValue) throws InvalidTypeException, ValidationException {
         super(path, description, defaultValue);
@@ -49,34 +56,111 @@ public class WritableConfigEntryImpl<T> extends ConfigEntryImpl<T> implements Wr
 
     @Override
     public @NotNull T getValue() throws InvalidTypeException, ValidationException {
-        return this.value;
+        return this.currentValue();
     }
 
     @Override
     public void setValue(@NotNull T value) throws InvalidTypeException, ValidationException {
         T parsedValue = this.toType(value);
-        if (parsedValue.equals(this.value))
+        if (parsedValue.equals(this.currentValue()))
             return;
-        this.value = parsedValue;
-        this.modified = true;
+        this.storeValue(parsedValue, false);
     }
 
     @Override
     public void putValue(@NotNull Object value, @NotNull ExceptionHandler exceptionHandler) throws InvalidTypeException, ValidationException {
+        T parsedValue;
         try {
-            this.value = this.toType(value);
+            parsedValue = this.toType(value);
         } catch (Throwable t) {
-            this.value = exceptionHandler.handle(this, value, t);
+            parsedValue = exceptionHandler.handle(this, value, t);
         }
-        this.modified = false;
+        this.storeValue(parsedValue, true);
     }
 
     @Override
     public void reset() {
-        if (this.getDefaultValue().equals(this.value))
+        if (this.getDefaultValue().equals(this.currentValue()))
             return;
-        this.value = this.getDefaultValue();
-        this.modified = true;
+        this.storeValue(this.getDefaultValue(), false);
+    }
+
+    @Override
+    public void addListener(@NotNull EntryListener<? super T> listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+    }
+
+    @Override
+    public void removeListener(@NotNull EntryListener<? super T> listener) {
+        this.listeners.remove(Objects.requireNonNull(listener));
+    }
+
+    @SuppressWarnings("unchecked")
+    private @NotNull T currentValue() {
+        ConfigImpl snapshotConfig = this.snapshotConfig;
+        if (snapshotConfig != null)
+            return (T) snapshotConfig.getSnapshotValue(this.snapshotIndex);
+        return this.value;
+    }
+
+    private void storeValue(@NotNull T value, boolean clean) {
+        T oldValue = this.currentValue();
+        ConfigImpl snapshotConfig = this.snapshotConfig;
+        if (!clean)
+            this.modified = true;
+        if (snapshotConfig != null) {
+            snapshotConfig.putSnapshotValue(this.snapshotIndex, value, clean);
+        } else {
+            this.value = value;
+            this.onValueStored(value);
+            if (clean)
+                this.modified = false;
+        }
+
+        if (!oldValue.equals(value)) {
+            ConfigImpl config = this.config;
+            if (config != null)
+                config.entryChanged(this, oldValue, value);
+            else
+                this.notifyListeners(oldValue, value);
+        }
+    }
+
+    /**
+     * Called after this entry's value has been replaced. Not called if the config publishes its values as one
+     * snapshot, see {@link #isSnapshotValue()}.
+     *
+     * @param value the new value
+     */
+    protected void onValueStored(@NotNull T value) {
+    }
+
+    /**
+     * Returns {@code true} if the value of this entry is stored in a snapshot of its config rather than in the entry.
+     *
+     * @return {@code true} if the config of this entry uses atomic reloads
+     */
+    protected final boolean isSnapshotValue() {
+        return this.snapshotConfig != null;
+    }
+
+    void attachSnapshot(@NotNull ConfigImpl config, int index) {
+        this.snapshotIndex = index;
+        this.snapshotConfig = config;
+    }
+
+    void attachConfig(@NotNull ConfigImpl config) {
+        this.config = config;
+    }
+
+    @SuppressWarnings("unchecked")
+    void notifyListeners(@NotNull Object oldValue, @NotNull Object newValue) {
+        for (EntryListener<? super T> listener : this.listeners)
+            listener.onChange((T) oldValue, (T) newValue);
+    }
+
+    void markClean() {
+        this.modified = false;
     }
 
     private @NotNull T toType(@Nullable Object value) throws InvalidTypeException, ValidationException {
@@ -106,4 +190,9 @@ public class WritableConfigEntryImpl<T> extends ConfigEntryImpl<T> implements Wr
     public boolean isModified() {
         return this.modified;
     }
+
+    @Override
+    public void markModified() {
+        this.modified = true;
+    }
 }
@@ -20,11 +20,44 @@
 
 package io.github.almightysatan.jaskl.test;
 
+import io.github.almightysatan.jaskl.Committable;
 import io.github.almightysatan.jaskl.Config;
-import io.github.almightysatan.jaskl.entries.BooleanConfigEntry;
+import io.github.almightysatan.jaskl.ConfigEntry;
+import io.github.almightysatan.jaskl.ConfigLoadException;
+import io.github.almightysatan.jaskl.ConfigWatcher;
+import io.github.almightysatan.jaskl.ExceptionHandler;
+import io.github.almightysatan.jaskl.InvalidTypeException;
+import io.github.almightysatan.jaskl.Resource;
+import io.github.almightysatan.jaskl.Type;
+import io.github.almightysatan.jaskl.ValidationException;
+import io.github.almightysatan.jaskl.Validator;
+import io.github.almightysatan.jaskl.annotation.AnnotationManager;
+import io.github.almightysatan.jaskl.annotation.Entry;
+import io.github.almightysatan.jaskl.entries.*;
+import io.github.almightysatan.jaskl.impl.MappedFileResource;
+import io.github.almightysatan.jaskl.impl.WritableConfigEntry;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.Test;
 
+import java.io.*;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.lang.management.ManagementFactory;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
 public class ConfigImplTest {
 
     @Test
@@ -49,4 +82,613 @@ public class ConfigImplTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> BooleanConfigEntry.of(config, "test.def", false));
         Assertions.assertThrows(IllegalArgumentException.class, () -> BooleanConfigEntry.of(config, "test.def.ghi", false));
     }
+
+    @Test
+    public void testConfigSubtreeEntries() {
+        Config config = new NopConfigImpl();
+
+        ConfigEntry<Boolean> portEntry = BooleanConfigEntry.of(config, "server.http.port", false);
+        ConfigEntry<Boolean> hostEntry = BooleanConfigEntry.of(config, "server.http.host.name", false);
+        ConfigEntry<Boolean> httpsEntry = BooleanConfigEntry.of(config, "server.https", false);
+
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(portEntry, hostEntry)), new HashSet<>(config.getEntries("server.http")));
+        Assertions.assertEquals(new HashSet<>(Arrays.asList(portEntry, hostEntry, httpsEntry)), new HashSet<>(config.getEntries("server")));
+        Assertions.assertEquals(Collections.singletonList(httpsEntry), config.getEntries("server.https"));
+        Assertions.assertTrue(config.getEntries("server.ftp").isEmpty());
+        Assertions.assertTrue(config.getEntries("server.http.port.x").isEmpty());
+    }
+
+    @Test
+    public void testAtomicReload() throws IOException {
+        Map<String, Object> values = new HashMap<>();
+        AtomicReference<Object> concurrentValue = new AtomicReference<>();
+        Config config = new NopConfigImpl(true) {
+            @Override
+            public void reload() {
+                this.updateValues(() -> {
+                    for (ConfigEntry<?> entry : this.getEntries())
+                        ((WritableConfigEntry<?>) entry).putValue(values.get(entry.getPath()), this.getExceptionHandler());
+
+                    Thread thread = new Thread(() -> concurrentValue.set(this.getEntryMap().get("a").getValue()));
+                    thread.start();
+                    try {
+                        thread.join();
+                    } catch (InterruptedException e) {
+                        throw new RuntimeException(e);
+                    }
+                });
+            }
+        };
+        ConfigEntry<Integer> entryA = IntegerConfigEntry.of(config, "a", 0);
+        ConfigEntry<Integer> entryB = IntegerConfigEntry.of(config, "b", 0);
+
+        values.put("a", 1);
+        values.put("b", 2);
+        config.reload();
+        Assertions.assertEquals(0, concurrentValue.get());
+        Assertions.assertEquals(1, entryA.getValue());
+        Assertions.assertEquals(2, entryB.getValue());
+
+        values.put("a", 3);
+        values.put("b", "invalid");
+        Assertions.assertThrows(InvalidTypeException.class, config::reload);
+        Assertions.assertEquals(1, entryA.getValue());
+        Assertions.assertEquals(2, entryB.getValue());
+
+        entryA.setValue(4);
+        Assertions.assertEquals(4, entryA.getValue());
+        config.reset();
+        Assertions.assertEquals(0, entryA.getValue());
+        Assertions.assertEquals(0, entryB.getValue());
+    }
+
+    @Test
+    public void testListeners() {
+        for (boolean atomicReload : new boolean[]{false, true}) {
+            Config config = new NopConfigImpl(atomicReload);
+            ConfigEntry<Integer> entryA = IntegerConfigEntry.of(config, "a", 0);
+            ConfigEntry<Integer> entryB = IntegerConfigEntry.of(config, "b", 0);
+            ConfigEntry<Integer> entryC = IntegerConfigEntry.of(config, "c", 0);
+
+            List<String> entryChanges = new ArrayList<>();
+            List<Set<String>> configChanges = new ArrayList<>();
+            entryA.addListener((oldValue, newValue) -> entryChanges.add(oldValue + "->" + newValue));
+            config.addListener(configChanges::add);
+
+            entryA.setValue(1);
+            entryA.setValue(1);
+            Assertions.assertEquals(Collections.singletonList("0->1"), entryChanges);
+            Assertions.assertEquals(Collections.singletonList(Collections.singleton("a")), configChanges);
+
+            entryB.setValue(2);
+            configChanges.clear();
+            config.reset();
+            Assertions.assertEquals(Arrays.asList("0->1", "1->0"), entryChanges);
+            Assertions.assertEquals(1, configChanges.size());
+            Assertions.assertEquals(new HashSet<>(Arrays.asList("a", "b")), configChanges.get(0));
+            Assertions.assertEquals(0, entryC.getValue());
+        }
+    }
+
+    @Test
+    public void testListenersOnUpdate() throws InterruptedException {
+        Map<String, Object> values = new HashMap<>();
+        for (boolean atomicReload : new boolean[]{false, true}) {
+            Config config = new NopConfigImpl(atomicReload) {
+                @Override
+                public void reload() {
+                    this.updateValues(() -> {
+                        for (String path : Arrays.asList("a", "b"))
+                            ((WritableConfigEntry<?>) this.getEntryMap().get(path)).putValue(values.get(path), this.getExceptionHandler());
+                    });
+                }
+            };
+            IntegerConfigEntry.of(config, "a", 0);
+            IntegerConfigEntry.of(config, "b", 0);
+            List<Set<String>> configChanges = Collections.synchronizedList(new ArrayList<>());
+            config.addListener(configChanges::add);
+
+            // Without atomic reloads, values changed before a failure are kept and therefore notified
+            values.put("a", 1);
+            values.put("b", "invalid");
+            Assertions.assertThrows(InvalidTypeException.class, config::reload);
+            Assertions.assertEquals(atomicReload ? Collections.emptyList() : Collections.singletonList(Collections.singleton("a")), configChanges);
+
+            // Concurrent updates do not share their changes
+            configChanges.clear();
+            AtomicInteger counter = new AtomicInteger(1);
+            Config concurrentConfig = new NopConfigImpl(atomicReload) {
+                @Override
+                public void reload() {
+                    this.updateValues(() -> {
+                        int value = counter.incrementAndGet();
+                        for (String path : Arrays.asList("a", "b"))
+                            ((WritableConfigEntry<?>) this.getEntryMap().get(path)).putValue(value, this.getExceptionHandler());
+                    });
+                }
+            };
+            IntegerConfigEntry.of(concurrentConfig, "a", 0);
+            IntegerConfigEntry.of(concurrentConfig, "b", 0);
+            concurrentConfig.addListener(configChanges::add);
+            Thread[] threads = new Thread[4];
+            for (int i = 0; i < threads.length; i++) {
+                threads[i] = new Thread(() -> {
+                    try {
+                        for (int j = 0; j < 1000; j++)
+                            concurrentConfig.reload();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+                threads[i].start();
+            }
+            for (Thread thread : threads)
+                thread.join();
+            Assertions.assertEquals(threads.length * 1000, configChanges.size());
+            for (Set<String> changedPaths : configChanges)
+                Assertions.assertEquals(new HashSet<>(Arrays.asList("a", "b")), changedPaths);
+        }
+    }
+
+    @Test
+    public void testPrimitiveValues() {
+        for (boolean atomicReload : new boolean[]{false, true}) {
+            Config config = new NopConfigImpl(atomicReload);
+
+            IntegerConfigEntry integerEntry = IntegerConfigEntry.of(config, "integer", 1);
+            LongConfigEntry longEntry = LongConfigEntry.of(config, "long", 1L);
+            DoubleConfigEntry doubleEntry = DoubleConfigEntry.of(config, "double", 1.0D);
+            FloatConfigEntry floatEntry = FloatConfigEntry.of(config, "float", 1.0F);
+            BooleanConfigEntry booleanEntry = BooleanConfigEntry.of(config, "boolean", false);
+
+            Assertions.assertEquals(1, integerEntry.getInt());
+            Assertions.assertEquals(1L, longEntry.getLong());
+            Assertions.assertEquals(1.0D, doubleEntry.getDouble());
+            Assertions.assertEquals(1.0F, floatEntry.getFloat());
+            Assertions.assertFalse(booleanEntry.getBoolean());
+
+            integerEntry.setValue(2);
+            longEntry.setValue(2L);
+            doubleEntry.setValue(2.0D);
+            floatEntry.setValue(2.0F);
+            booleanEntry.setValue(true);
+
+            Assertions.assertEquals(2, integerEntry.getInt());
+            Assertions.assertEquals(2L, longEntry.getLong());
+            Assertions.assertEquals(2.0D, doubleEntry.getDouble());
+            Assertions.assertEquals(2.0F, floatEntry.getFloat());
+            Assertions.assertTrue(booleanEntry.getBoolean());
+
+            config.reset();
+
+            Assertions.assertEquals(1, integerEntry.getInt());
+            Assertions.assertEquals(1L, longEntry.getLong());
+            Assertions.assertEquals(1.0D, doubleEntry.getDouble());
+            Assertions.assertEquals(1.0F, floatEntry.getFloat());
+            Assertions.assertFalse(booleanEntry.getBoolean());
+        }
+    }
+
+    @Test
+    public void testPrimitiveValuesAllocationFree() {
+        Assumptions.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+        com.sun.management.ThreadMXBean threadBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        Assumptions.assumeTrue(threadBean.isThreadAllocatedMemorySupported() && threadBean.isThreadAllocatedMemoryEnabled());
+        long threadId = Thread.currentThread().getId();
+
+        for (boolean atomicReload : new boolean[]{false, true}) {
+            Config config = new NopConfigImpl(atomicReload);
+
+            // Values outside of the boxing caches so that boxing would show up as allocated bytes
+            IntegerConfigEntry integerEntry = IntegerConfigEntry.of(config, "integer", 100_000);
+            LongConfigEntry longEntry = LongConfigEntry.of(config, "long", 100_000L);
+            DoubleConfigEntry doubleEntry = DoubleConfigEntry.of(config, "double", 1.5D);
+            FloatConfigEntry floatEntry = FloatConfigEntry.of(config, "float", 1.5F);
+            BooleanConfigEntry booleanEntry = BooleanConfigEntry.of(config, "boolean", true);
+
+            double sum = 0;
+            for (int i = 0; i < 10_000; i++) // warmup
+                sum += integerEntry.getInt() + longEntry.getLong() + doubleEntry.getDouble() + floatEntry.getFloat() + (booleanEntry.getBoolean() ? 1 : 0);
+
+            int iterations = 100_000;
+            long allocatedBefore = threadBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < iterations; i++)
+                sum += integerEntry.getInt() + longEntry.getLong() + doubleEntry.getDouble() + floatEntry.getFloat() + (booleanEntry.getBoolean() ? 1 : 0);
+            long allocated = threadBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+            Assertions.assertTrue(sum > 0);
+            // getThreadAllocatedBytes itself may allocate a few bytes; one boxed value per read would be megabytes
+            Assertions.assertTrue(allocated < iterations, "Primitive reads allocated " + allocated + " bytes (atomicReload=" + atomicReload + ")");
+        }
+    }
+
+    @Test
+    public void testConfigWatcher() throws IOException, InterruptedException {
+        File file = Files.createTempFile("jaskl", ".txt").toFile();
+        file.deleteOnExit();
+        Files.write(file.toPath(), "a".getBytes(StandardCharsets.UTF_8));
+
+        Semaphore reloads = new Semaphore(0);
+        Config config = new NopConfigImpl() {
+            @Override
+            public void reload() {
+                reloads.release();
+            }
+        };
+
+        try (ConfigWatcher watcher = ConfigWatcher.create(10, null)) {
+            watcher.watch(config, file);
+
+            Files.write(file.toPath(), "b".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertTrue(reloads.tryAcquire(10, TimeUnit.SECONDS));
+
+            watcher.unwatch(config);
+            Files.write(file.toPath(), "c".getBytes(StandardCharsets.UTF_8));
+            Assertions.assertFalse(reloads.tryAcquire(500, TimeUnit.MILLISECONDS));
+        }
+
+        // Without an exception handler, failed reloads are passed to the exception handler of the config
+        BlockingQueue<Throwable> exceptions = new LinkedBlockingQueue<>();
+        ExceptionHandler exceptionHandler = new ExceptionHandler() {
+            @Override
+            public <T> T handle(@NotNull ConfigEntry<T> entry, @Nullable Object value, @NotNull Throwable exception) {
+                throw new InvalidTypeException(entry.getPath(), exception);
+            }
+
+            @Override
+            public void handleBackground(@NotNull Config config, @NotNull Throwable exception) {
+                exceptions.add(exception);
+            }
+        };
+        Config failingConfig = new NopConfigImpl() {
+            @Override
+            public void reload() {
+                throw new InvalidTypeException("example");
+            }
+
+            @Override
+            public @NotNull ExceptionHandler getExceptionHandler() {
+                return exceptionHandler;
+            }
+        };
+
+        try (ConfigWatcher watcher = ConfigWatcher.create(10, null)) {
+            watcher.watch(failingConfig, file);
+
+            Files.write(file.toPath(), "d".getBytes(StandardCharsets.UTF_8));
+            Throwable exception = exceptions.poll(10, TimeUnit.SECONDS);
+            Assertions.assertTrue(exception instanceof InvalidTypeException);
+        }
+    }
+
+    @Test
+    public void testAtomicFileResource() throws IOException {
+        File directory = Files.createTempDirectory("jaskl").toFile();
+        File file = new File(directory, "config.txt");
+        Resource resource = Resource.of(file, Resource.WriteMode.ATOMIC_SYNC);
+        resource.createIfNotExists();
+
+        boolean posix = file.toPath().getFileSystem().supportedFileAttributeViews().contains("posix");
+        if (posix)
+            Files.setPosixFilePermissions(file.toPath(), PosixFilePermissions.fromString("rw-------"));
+
+        try (Writer writer = resource.getWriter()) {
+            writer.write("a");
+            Assertions.assertEquals("", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+            Committable.commit(writer);
+        }
+        Assertions.assertEquals("a", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        Assertions.assertArrayEquals(new String[]{"config.txt"}, directory.list());
+        if (posix)
+            Assertions.assertEquals(PosixFilePermissions.fromString("rw-------"), Files.getPosixFilePermissions(file.toPath()));
+
+        // Closing without committing, e.g. because serializing failed, discards the content
+        Assertions.assertThrows(IllegalStateException.class, () -> {
+            try (OutputStream outputStream = resource.getOutputStream()) {
+                outputStream.write('b');
+                throw new IllegalStateException();
+            }
+        });
+        Assertions.assertEquals("a", new String(Files.readAllBytes(file.toPath()), StandardCharsets.UTF_8));
+        Assertions.assertArrayEquals(new String[]{"config.txt"}, directory.list());
+
+        Assertions.assertTrue(file.delete());
+        Assertions.assertTrue(directory.delete());
+    }
+
+    @Test
+    public void testAnnotationManagerTypeCache() throws InterruptedException, ExecutionException {
+        AnnotationManager annotationManager = AnnotationManager.create();
+        Type<ExampleCustomObject> customType = annotationManager.createCustomObjectType(ExampleCustomObject.class);
+        Type<AnnotatedObject> annotatedType = annotationManager.createCustomObjectType(AnnotatedObject.class);
+        Type<NestedAnnotatedObject> nestedType = annotationManager.createCustomObjectType(NestedAnnotatedObject.class);
+        Assertions.assertEquals(-1, annotatedType.toEntryType(Collections.singletonMap("value", -1)).value);
+
+        annotationManager.addValidator(NotNegative.class, Validator.INTEGER_NOT_NEGATIVE);
+
+        // Only types using the new annotation are created again
+        Assertions.assertSame(customType, annotationManager.createCustomObjectType(ExampleCustomObject.class));
+        Assertions.assertNotSame(annotatedType, annotationManager.createCustomObjectType(AnnotatedObject.class));
+        Assertions.assertNotSame(nestedType, annotationManager.createCustomObjectType(NestedAnnotatedObject.class));
+        Assertions.assertThrows(ValidationException.class, () -> annotationManager.createCustomObjectType(AnnotatedObject.class).toEntryType(Collections.singletonMap("value", -1)));
+
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            AnnotationManager concurrentAnnotationManager = AnnotationManager.create();
+            List<Future<Type<NestedAnnotatedObject>>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                futures.add(executor.submit(() -> {
+                    concurrentAnnotationManager.registerEntries(new NopConfigImpl(), ExampleAnnotationConfig.class);
+                    return concurrentAnnotationManager.createCustomObjectType(NestedAnnotatedObject.class);
+                }));
+            }
+            Type<NestedAnnotatedObject> type = concurrentAnnotationManager.createCustomObjectType(NestedAnnotatedObject.class);
+            for (Future<Type<NestedAnnotatedObject>> future : futures)
+                Assertions.assertNotNull(future.get());
+            Assertions.assertSame(type, concurrentAnnotationManager.createCustomObjectType(NestedAnnotatedObject.class));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testLoadAll() {
+        Set<Config> loaded = ConcurrentHashMap.newKeySet();
+        List<Config> configs = new ArrayList<>();
+        for (int i = 0; i < 32; i++) {
+            configs.add(new NopConfigImpl() {
+                @Override
+                public void load() {
+                    loaded.add(this);
+                }
+            });
+        }
+        Config invalidConfig = new NopConfigImpl() {
+            @Override
+            public void load() {
+                throw new ValidationException("invalid");
+            }
+        };
+        Config brokenConfig = new NopConfigImpl() {
+            @Override
+            public void load() {
+                throw new InvalidTypeException("broken");
+            }
+        };
+        configs.add(5, invalidConfig);
+        configs.add(brokenConfig);
+
+        ConfigLoadException exception = Assertions.assertThrows(ConfigLoadException.class, () -> Config.loadAll(configs));
+        Assertions.assertEquals(32, loaded.size());
+        Assertions.assertEquals(Arrays.asList(invalidConfig, brokenConfig), new ArrayList<>(exception.getFailures().keySet()));
+        Assertions.assertTrue(exception.getCause() instanceof ValidationException);
+        Assertions.assertTrue(exception.getSuppressed()[0] instanceof InvalidTypeException);
+
+        Assertions.assertDoesNotThrow(() -> Config.loadAll(Collections.singletonList(new NopConfigImpl()), Runnable::run));
+
+        // Duplicates are only loaded once
+        AtomicInteger loads = new AtomicInteger();
+        Config config = new NopConfigImpl() {
+            @Override
+            public void load() {
+                loads.incrementAndGet();
+            }
+        };
+        Assertions.assertDoesNotThrow(() -> Config.loadAll(Arrays.asList(config, config, config)));
+        Assertions.assertEquals(1, loads.get());
+    }
+
+    @Test
+    public void testWriteAsync() throws InterruptedException, ExecutionException, TimeoutException {
+        AtomicInteger writes = new AtomicInteger();
+        Config config = new NopConfigImpl() {
+            @Override
+            public void write() {
+                writes.incrementAndGet();
+            }
+        };
+
+        CompletableFuture<Void> future = config.writeAsync(200);
+        Assertions.assertSame(future, config.writeAsync(200));
+        Assertions.assertSame(future, config.writeAsync(0)); // Moves the pending write forward
+        future.get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals(1, writes.get());
+
+        CompletableFuture<Void> future1 = config.writeAsync(60_000);
+        Assertions.assertNotSame(future, future1);
+        config.close();
+        Assertions.assertTrue(future1.isDone());
+        Assertions.assertEquals(2, writes.get());
+
+        Config failingConfig = new NopConfigImpl() {
+            @Override
+            public void write() {
+                throw new ValidationException("invalid");
+            }
+        };
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class, () -> failingConfig.writeAsync(0).get(10, TimeUnit.SECONDS));
+        Assertions.assertTrue(exception.getCause() instanceof ValidationException);
+
+        // Implementations can write using their own executor
+        ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> new Thread(runnable, "Custom Writer"));
+        AtomicReference<String> writerThread = new AtomicReference<>();
+        Config executorConfig = new NopConfigImpl() {
+            @Override
+            public void write() {
+                writerThread.set(Thread.currentThread().getName());
+            }
+
+            @Override
+            protected @NotNull Executor getWriteExecutor() {
+                return executor;
+            }
+        };
+        executorConfig.writeAsync(0).get(10, TimeUnit.SECONDS);
+        Assertions.assertEquals("Custom Writer", writerThread.get());
+        executor.shutdown();
+    }
+
+    @Test
+    public void testByteResources() throws IOException {
+        byte[] bytes = "h\u00e9llo".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length);
+        buffer.put(bytes).flip();
+
+        for (Resource resource : Arrays.asList(Resource.of(bytes), Resource.of(buffer))) {
+            Assertions.assertTrue(resource.exists());
+            Assertions.assertTrue(resource.isReadOnly());
+            Assertions.assertThrows(UnsupportedOperationException.class, resource::getOutputStream);
+            try (Reader reader = resource.getReader()) {
+                Assertions.assertEquals("h\u00e9llo", new BufferedReader(reader).readLine());
+            }
+            try (InputStream inputStream = resource.getInputStream()) {
+                byte[] read = new byte[bytes.length + 1];
+                Assertions.assertEquals(bytes.length, inputStream.read(read));
+                Assertions.assertArrayEquals(bytes, Arrays.copyOf(read, bytes.length));
+            }
+        }
+        Assertions.assertEquals(0, buffer.position());
+
+        Path directory = Files.createTempDirectory("jaskl");
+        Path path = directory.resolve("nested").resolve("config.txt");
+        Resource resource = Resource.of(path);
+        Assertions.assertFalse(resource.exists());
+        resource.createIfNotExists();
+        try (OutputStream outputStream = resource.getOutputStream()) {
+            outputStream.write(bytes);
+        }
+        try (InputStream inputStream = resource.getInputStream()) {
+            byte[] read = new byte[bytes.length];
+            Assertions.assertEquals(bytes.length, inputStream.read(read));
+            Assertions.assertArrayEquals(bytes, read);
+        }
+        Files.delete(path);
+        Files.delete(path.getParent());
+        Files.delete(directory);
+    }
+
+    @Test
+    public void testReaderResource() throws IOException {
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < 5000; i++)
+            builder.append("h\u00e9llo \ud83d\ude00 ");
+        String content = builder.toString();
+
+        // Only the reader is implemented, the input stream encodes its content while it is read
+        Resource resource = new Resource() {
+            @Override
+            public boolean exists() {
+                return true;
+            }
+
+            @Override
+            public void createIfNotExists() {
+            }
+
+            @Override
+            public @NotNull Reader getReader() {
+                return new StringReader(content);
+            }
+
+            @Override
+            public @NotNull Writer getWriter() {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public boolean isReadOnly() {
+                return true;
+            }
+        };
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (InputStream inputStream = resource.getInputStream()) {
+            outputStream.write(inputStream.read());
+            byte[] buffer = new byte[1000];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1)
+                outputStream.write(buffer, 0, length);
+        }
+        Assertions.assertArrayEquals(content.getBytes(StandardCharsets.UTF_8), outputStream.toByteArray());
+    }
+
+    @Test
+    public void testMappedResource() throws IOException {
+        File file = File.createTempFile("jaskl", ".txt");
+        file.deleteOnExit();
+        MappedFileResource resource = Resource.mapped(file.toPath());
+
+        try (OutputStream outputStream = resource.getOutputStream()) {
+            outputStream.write("h\u00e9llo world".getBytes(StandardCharsets.UTF_8));
+        }
+        try (Reader reader = resource.getReader()) {
+            Assertions.assertEquals("h\u00e9llo world", new BufferedReader(reader).readLine());
+        }
+
+        // Every read maps the current content of the file
+        try (Writer writer = resource.getWriter()) {
+            writer.write("bye");
+        }
+        Assertions.assertEquals(3, resource.map().remaining());
+        try (InputStream inputStream = resource.getInputStream()) {
+            byte[] read = new byte[4];
+            Assertions.assertEquals(3, inputStream.read(read));
+            Assertions.assertArrayEquals("bye".getBytes(StandardCharsets.UTF_8), Arrays.copyOf(read, 3));
+        }
+    }
+
+    @Test
+    public void testReloadIfChanged() throws IOException {
+        File file = File.createTempFile("jaskl", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "a".getBytes(StandardCharsets.UTF_8));
+
+        AtomicInteger reloads = new AtomicInteger();
+        Resource resource = Resource.of(file);
+        Config config = new NopConfigImpl() {
+            @Override
+            public void reload() {
+                reloads.incrementAndGet();
+            }
+
+            @Override
+            protected Resource getResource() {
+                return resource;
+            }
+        };
+
+        Assertions.assertTrue(config.reloadIfChanged());
+        Assertions.assertFalse(config.reloadIfChanged());
+        Assertions.assertEquals(1, reloads.get());
+
+        Files.write(file.toPath(), "ab".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertTrue(config.reloadIfChanged());
+        Assertions.assertFalse(config.reloadIfChanged());
+        Assertions.assertEquals(2, reloads.get());
+
+        // Resources that are not files are hashed
+        Resource urlResource = Resource.of(file.toURI().toURL());
+        Object fingerprint = urlResource.getFingerprint();
+        Assertions.assertEquals(fingerprint, urlResource.getFingerprint());
+        Files.write(file.toPath(), "ac".getBytes(StandardCharsets.UTF_8));
+        Assertions.assertNotEquals(fingerprint, urlResource.getFingerprint());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.FIELD)
+    public @interface NotNegative {
+    }
+
+    public static class AnnotatedObject {
+
+        @Entry
+        @NotNegative
+        public int value;
+    }
+
+    public static class NestedAnnotatedObject {
+
+        @Entry
+        public AnnotatedObject object;
+    }
 }
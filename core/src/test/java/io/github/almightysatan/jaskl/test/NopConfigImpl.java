@@ -30,7 +30,11 @@ import java.util.Set;
 public class NopConfigImpl extends ConfigImpl {
 
     public NopConfigImpl() {
-        super(null, null, null);
+        this(false);
+    }
+
+    public NopConfigImpl(boolean atomicReload) {
+        super(null, null, null, atomicReload);
     }
 
     @Override
@@ -52,5 +56,6 @@ public class NopConfigImpl extends ConfigImpl {
 
     @Override
     public void close() {
+        this.flushPendingWrite();
     }
 }
@@ -36,6 +36,7 @@ import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.*;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 
 public abstract class ConfigTest {
 
@@ -257,6 +258,72 @@ public abstract class ConfigTest {
         config1.close();
     }
 
+    /**
+     * Test if values written by another config are picked up by {@link Config#reloadIfChanged()}.
+     * This test requires a valid file path.
+     */
+    @Test
+    public void testReloadIfChanged() throws IOException {
+        Config config0 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry0 = StringConfigEntry.of(config0, "example.string", "Example String", "default");
+        config0.load();
+        stringConfigEntry0.setValue("one");
+        config0.write();
+
+        Config config1 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry1 = StringConfigEntry.of(config1, "example.string", "Example String", "default");
+        config1.load();
+        Assertions.assertEquals("one", stringConfigEntry1.getValue());
+
+        stringConfigEntry0.setValue("three");
+        config0.write();
+        Assertions.assertTrue(config1.reloadIfChanged());
+        Assertions.assertEquals("three", stringConfigEntry1.getValue());
+
+        config0.close();
+        config1.close();
+    }
+
+    /**
+     * Test if asynchronous writes can run concurrently with writes and reloads of another thread.
+     * This test requires a valid file path.
+     */
+    @Test
+    public void testWriteAsyncConcurrently() throws IOException, InterruptedException {
+        Config config0 = this.createTestConfig();
+        ConfigEntry<Integer> intConfigEntry0 = IntegerConfigEntry.of(config0, "example.integer", "Example Integer", 0);
+        ConfigEntry<String> stringConfigEntry0 = StringConfigEntry.of(config0, "example.string", "Example String", "default");
+        config0.load();
+        config0.write();
+
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        Thread thread = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                intConfigEntry0.setValue(i);
+                futures.add(config0.writeAsync(0));
+            }
+        });
+        thread.start();
+        for (int i = 0; i < 100; i++) {
+            stringConfigEntry0.setValue("value" + i);
+            config0.write();
+            config0.reload();
+        }
+        thread.join();
+        for (CompletableFuture<Void> future : futures)
+            future.join();
+
+        intConfigEntry0.setValue(1000);
+        config0.write();
+        config0.close();
+
+        Config config1 = this.createTestConfig();
+        ConfigEntry<Integer> intConfigEntry1 = IntegerConfigEntry.of(config1, "example.integer", "Example Integer", 0);
+        config1.load();
+        Assertions.assertEquals(1000, intConfigEntry1.getValue());
+        config1.close();
+    }
+
     @Test
     public void testWriteAndLoadBig() throws IOException {
         Config config0 = this.createTestConfig();
@@ -32,6 +32,7 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.Writer;
 import java.math.BigDecimal;
 import java.math.BigInteger;
@@ -50,84 +51,108 @@ public class HoconConfig extends ConfigImpl {
     private final Resource resource;
     private Config config;
 
-    private HoconConfig(@NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler, @Nullable DescriptionFormatter descriptionFormatter) {
-        super(description, exceptionHandler, descriptionFormatter);
+    private HoconConfig(@NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler, @Nullable DescriptionFormatter descriptionFormatter, boolean atomicReload) {
+        super(description, exceptionHandler, descriptionFormatter, atomicReload);
         this.resource = Objects.requireNonNull(resource);
     }
 
     @Override
     public void load() throws IllegalStateException, IOException {
-        if (this.config != null)
-            throw new IllegalStateException();
-        if (!this.resource.exists()) {
+        synchronized (this.getWriteLock()) {
+            if (this.config != null)
+                throw new IllegalStateException();
             this.config = ConfigFactory.empty();
-            return;
+            this.reload();
         }
-        this.config = ConfigFactory.parseReader(this.resource.getReader(), PARSE_OPTIONS);
-        this.reload();
     }
 
     @Override
-    public void reload() throws IllegalStateException {
-        if (this.config == null)
-            throw new IllegalStateException();
-        for (ConfigEntry<?> uncastedConfigEntry : this.getEntries()) {
-            WritableConfigEntry<?> configEntry = (WritableConfigEntry<?>) uncastedConfigEntry;
-            try {
-                Object value = this.config.getValue(configEntry.getPath()).unwrapped();
-                configEntry.putValue(value, this.getExceptionHandler());
-            } catch (ConfigException.Missing ignored) {
+    public void reload() throws IOException, IllegalStateException {
+        synchronized (this.getWriteLock()) {
+            if (this.config == null)
+                throw new IllegalStateException();
+            if (!this.resource.exists())
+                return;
+
+            try (Reader reader = this.resource.getReader()) {
+                this.config = ConfigFactory.parseReader(reader, PARSE_OPTIONS);
             }
+            this.updateValues(() -> {
+                for (ConfigEntry<?> uncastedConfigEntry : this.getEntries()) {
+                    WritableConfigEntry<?> configEntry = (WritableConfigEntry<?>) uncastedConfigEntry;
+                    try {
+                        Object value = this.config.getValue(configEntry.getPath()).unwrapped();
+                        configEntry.putValue(value, this.getExceptionHandler());
+                    } catch (ConfigException.Missing ignored) {
+                    }
+                }
+            });
         }
     }
 
     @Override
     public void write() throws IOException {
-        Config config = this.config;
-        if (config == null)
-            throw new IllegalStateException();
-        resource.createIfNotExists();
-
-        for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
-            if (configEntry.isModified()) {
-                Object entryValue = configEntry.getValueToWrite(Object::toString);
-                if (entryValue instanceof BigInteger)
-                    entryValue = entryValue.toString();
-                if (entryValue instanceof BigDecimal)
-                    entryValue = entryValue.toString();
-                ConfigValue value = ConfigValueFactory.fromAnyRef(entryValue);
-                String comment = this.getCommentFormatter().formatEntryDescription(configEntry);
-                if (comment != null)
-                    value = value.withOrigin(value.origin().withComments(this.toCommentList(comment)));
-                config = config.withValue(configEntry.getPath(), value);
+        synchronized (this.getWriteLock()) {
+            Config config = this.config;
+            if (config == null)
+                throw new IllegalStateException();
+            resource.createIfNotExists();
+
+            Map<String, Object> updates = new HashMap<>();
+            for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
+                if (configEntry.isModified()) {
+                    Object entryValue = configEntry.getValueToWrite(Object::toString);
+                    if (entryValue instanceof BigInteger)
+                        entryValue = entryValue.toString();
+                    if (entryValue instanceof BigDecimal)
+                        entryValue = entryValue.toString();
+                    ConfigValue value = ConfigValueFactory.fromAnyRef(entryValue);
+                    String comment = this.getCommentFormatter().formatEntryDescription(configEntry);
+                    if (comment != null)
+                        value = value.withOrigin(value.origin().withComments(this.toCommentList(comment)));
+                    putUpdate(updates, configEntry.getPathSegments(), value);
+                }
             }
-        }
 
-        this.writeIfNecessary(config, true);
+            // Every modified object is copied once instead of copying the whole tree for every modified entry
+            if (!updates.isEmpty())
+                config = mergeUpdates(config.root(), updates).toConfig();
+            this.writeIfNecessary(config, true);
+        }
     }
 
     @Override
     public @Unmodifiable @NotNull Set<@NotNull String> prune() throws IOException {
-        Config config = this.config;
-        if (config == null)
-            throw new IllegalStateException();
-        if (!this.resource.exists())
-            return Collections.emptySet();
-
-        Set<String> pathsToRemove = new HashSet<>();
-        Set<String> valuePathsRemoved = new HashSet<>();
-        this.resolvePathsToStrip("", config.root(), this.getPaths(), pathsToRemove, valuePathsRemoved);
-        for (String path : pathsToRemove)
-            config = config.withoutPath(path);
-
-        this.writeIfNecessary(config, false);
-        return Collections.unmodifiableSet(valuePathsRemoved);
+        synchronized (this.getWriteLock()) {
+            Config config = this.config;
+            if (config == null)
+                throw new IllegalStateException();
+            if (!this.resource.exists())
+                return Collections.emptySet();
+
+            Set<String> pathsToRemove = new HashSet<>();
+            Set<String> valuePathsRemoved = new HashSet<>();
+            this.resolvePathsToStrip("", config.root(), this.getPaths(), pathsToRemove, valuePathsRemoved);
+            for (String path : pathsToRemove)
+                config = config.withoutPath(path);
+
+            this.writeIfNecessary(config, false);
+            return Collections.unmodifiableSet(valuePathsRemoved);
+        }
+    }
+
+    @Override
+    protected @NotNull Resource getResource() {
+        return this.resource;
     }
 
     @Override
     public void close() {
-        if (this.config != null)
-            this.config = null;
+        synchronized (this.getWriteLock()) {
+            this.flushPendingWrite();
+            if (this.config != null)
+                this.config = null;
+        }
     }
 
     protected void writeIfNecessary(@NotNull Config config, boolean setDescription) throws IOException {
@@ -137,6 +162,7 @@ public class HoconConfig extends ConfigImpl {
             String output = root.render(RENDER_OPTIONS);
             try (Writer fileWriter = this.resource.getWriter()) {
                 fileWriter.write(output);
+                Committable.commit(fileWriter);
             }
             this.config = config;
         }
@@ -161,6 +187,46 @@ public class HoconConfig extends ConfigImpl {
         }
     }
 
+    /**
+     * Adds a value to a tree of updates. Inner nodes of the tree are maps, leaves are {@link ConfigValue ConfigValues}.
+     *
+     * @param updates the tree of updates
+     * @param path    the path segments of the value
+     * @param value   the value
+     */
+    @SuppressWarnings("unchecked")
+    protected static void putUpdate(@NotNull Map<String, Object> updates, @NotNull String @NotNull [] path, @NotNull ConfigValue value) {
+        Map<String, Object> node = updates;
+        for (int i = 0; i < path.length - 1; i++)
+            node = (Map<String, Object>) node.computeIfAbsent(path[i], key -> new HashMap<>());
+        node.put(path[path.length - 1], value);
+    }
+
+    /**
+     * Returns a copy of the given object with all values of the given tree of updates applied. Only objects that
+     * contain an update are copied. Like {@link ConfigObject#withValue(String, ConfigValue)} a value that is not an
+     * object is replaced with an object if an update requires it.
+     *
+     * @param node    the object or {@code null} if it does not exist yet
+     * @param updates the tree of updates, see {@link #putUpdate(Map, String[], ConfigValue)}
+     * @return the updated object
+     */
+    @SuppressWarnings("unchecked")
+    protected static @NotNull ConfigObject mergeUpdates(@Nullable ConfigObject node, @NotNull Map<String, Object> updates) {
+        Map<String, ConfigValue> values = node == null ? new HashMap<>() : new HashMap<>(node);
+        for (Map.Entry<String, Object> update : updates.entrySet()) {
+            if (update.getValue() instanceof ConfigValue)
+                values.put(update.getKey(), (ConfigValue) update.getValue());
+            else {
+                ConfigValue child = values.get(update.getKey());
+                values.put(update.getKey(), mergeUpdates(child instanceof ConfigObject ? (ConfigObject) child : null, (Map<String, Object>) update.getValue()));
+            }
+        }
+
+        ConfigObject merged = ConfigValueFactory.fromMap(values);
+        return node == null ? merged : merged.withOrigin(node.origin());
+    }
+
     protected @Nullable List<String> toCommentList(String description) {
         if (description == null)
             return null;
@@ -189,7 +255,7 @@ public class HoconConfig extends ConfigImpl {
 
         @Override
         public @NotNull HoconConfig build() {
-            return new HoconConfig(this.resource, this.description, this.exceptionHandler, this.descriptionFormatter);
+            return new HoconConfig(this.resource, this.description, this.exceptionHandler, this.descriptionFormatter, this.atomicReload);
         }
     }
 
@@ -236,7 +302,7 @@ public class HoconConfig extends ConfigImpl {
      * @return A new {@link HoconConfig} instance.
      */
     public static io.github.almightysatan.jaskl.Config of(@NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler) {
-        return new HoconConfig(resource, description, exceptionHandler, null);
+        return new HoconConfig(resource, description, exceptionHandler, null, false);
     }
 
     /**
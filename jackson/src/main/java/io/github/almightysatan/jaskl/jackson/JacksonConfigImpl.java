@@ -20,10 +20,15 @@
 
 package io.github.almightysatan.jaskl.jackson;
 
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.node.*;
+import io.github.almightysatan.jaskl.Committable;
 import io.github.almightysatan.jaskl.ExceptionHandler;
 import io.github.almightysatan.jaskl.Resource;
 import io.github.almightysatan.jaskl.impl.ConfigImpl;
@@ -33,7 +38,12 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
 import java.util.*;
 import java.util.Map.Entry;
 
@@ -41,93 +51,356 @@ public abstract class JacksonConfigImpl extends ConfigImpl {
 
     private final ObjectMapper mapper;
     private final Resource resource;
-    private ObjectNode root;
+    private boolean loaded;
+    private ObjectNode root; // The parsed document, only built when needed for writing or pruning
+    private Object unparsedRoot; // The content the root is built from, a byte array or a string. null if root is built.
+
+    // Only used if incrementalWrite is true
+    private final boolean incrementalWrite;
+    private String content; // The content of the resource when it was last read or written
+    private Object contentFingerprint;
+    private final Map<String, ValueRange> valueRanges = new HashMap<>(); // The position of each entry's value in content
 
     protected JacksonConfigImpl(@NotNull ObjectMapper mapper, @NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler) {
-        super(description, exceptionHandler, null);
+        this(mapper, resource, description, exceptionHandler, false);
+    }
+
+    protected JacksonConfigImpl(@NotNull ObjectMapper mapper, @NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler, boolean atomicReload) {
+        this(mapper, resource, description, exceptionHandler, atomicReload, false);
+    }
+
+    /**
+     * @param incrementalWrite if {@code true}, the content of the resource is kept in memory and {@link #write()} only
+     *                         replaces the values of modified entries instead of serializing the whole document. Only
+     *                         supported if the mapper writes JSON.
+     */
+    protected JacksonConfigImpl(@NotNull ObjectMapper mapper, @NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler, boolean atomicReload, boolean incrementalWrite) {
+        super(description, exceptionHandler, null, atomicReload);
         mapper.configure(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS, true);
         this.mapper = Objects.requireNonNull(mapper);
         this.resource = Objects.requireNonNull(resource);
+        this.incrementalWrite = incrementalWrite;
     }
 
     @Override
     public void load() throws IOException, IllegalStateException {
-        if (this.root != null)
-            throw new IllegalStateException();
+        synchronized (this.getWriteLock()) {
+            if (this.loaded)
+                throw new IllegalStateException();
 
-        this.root = JsonNodeFactory.instance.objectNode();
-        this.reload();
+            this.loaded = true;
+            this.setRoot(JsonNodeFactory.instance.objectNode());
+            this.reload();
+        }
     }
 
     @Override
     public void reload() throws IOException, IllegalStateException {
-        if (this.root == null)
-            throw new IllegalStateException();
-        if (!this.resource.exists())
-            return;
+        synchronized (this.getWriteLock()) {
+            if (!this.loaded)
+                throw new IllegalStateException();
+            if (!this.resource.exists())
+                return;
 
-        JsonNode root = this.mapper.readTree(resource.getReader());
-        if (root instanceof MissingNode)
-            return;
-        try {
-            this.root = (ObjectNode) root;
-        } catch (ClassCastException e) {
-            throw new IOException(e);
-        }
+            if (this.incrementalWrite) {
+                this.clearContent();
+                Object fingerprint = this.resource.getFingerprint();
+                String content = readFully(this.resource.getReader());
+                Map<String, ValueRange> valueRanges = new HashMap<>();
+                try (JsonParser parser = this.mapper.createParser(content)) {
+                    if (this.startDocument(parser)) {
+                        this.setUnparsedRoot(content);
+                        this.updateValues(() -> this.readValues(parser, this.getPathIndex(), valueRanges, true));
+                    }
+                }
+                this.setContent(content, fingerprint, valueRanges);
+                return;
+            }
 
-        for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
-            JsonNode node = this.resolveNode(configEntry.getPath());
-            if (node == null)
-                continue;
+            // Values are read directly from the encoded token stream. Subtrees that do not contain any entry are skipped.
+            // The content is kept, so the tree can be built from the loaded document once it is written or pruned.
+            byte[] content = readFully(this.resource.getInputStream());
+            try (JsonParser parser = this.mapper.createParser(content)) {
+                if (!this.startDocument(parser))
+                    return;
 
-            Object value = this.mapper.treeToValue(node, Object.class);
-            configEntry.putValue(value, this.getExceptionHandler());
+                this.setUnparsedRoot(content);
+                this.updateValues(() -> this.loadValues(parser, this.getPathIndex()));
+            }
         }
     }
 
+    private boolean startDocument(@NotNull JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null)
+            return false;
+        if (token != JsonToken.START_OBJECT)
+            throw new IOException("Expected an object but found " + token);
+        return true;
+    }
+
     @Override
     public void write() throws IOException {
-        if (this.root == null)
-            throw new IllegalStateException();
-        this.resource.createIfNotExists();
+        synchronized (this.getWriteLock()) {
+            if (!this.loaded)
+                throw new IllegalStateException();
+            this.resource.createIfNotExists();
 
-        boolean shouldWrite = false;
+            if (this.incrementalWrite && this.writeIncrementally())
+                return;
+
+            ObjectNode root = this.getRoot();
+            boolean shouldWrite = false;
+            for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
+                if (configEntry.isModified()) {
+                    this.putNode(configEntry.getPathSegments(), this.valueToTree(configEntry));
+                    shouldWrite = true;
+                }
+            }
+
+            if (shouldWrite)
+                this.writeRoot(root);
+        }
+    }
+
+    /**
+     * Replaces the values of all modified entries in the content that has been read or written last. Everything else
+     * is left untouched.
+     *
+     * @return {@code false} if the document has to be written completely, because the resource has been changed
+     * externally or a modified entry does not exist in the document yet
+     * @throws IOException if an I/O exception occurs
+     */
+    private boolean writeIncrementally() throws IOException {
+        if (this.content == null || !Objects.equals(this.resource.getFingerprint(), this.contentFingerprint))
+            return false;
+
+        List<WritableConfigEntry<?>> modifiedEntries = new ArrayList<>();
         for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
             if (configEntry.isModified()) {
-                this.putNode(configEntry.getPath(), this.mapper.valueToTree(configEntry.getValueToWrite(key -> {
-                    // Ignore all comments
-                    if (key instanceof EntryDescriptor)
-                        return ((EntryDescriptor) key).getValue();
-                    return key;
-                })));
-                shouldWrite = true;
+                if (!this.valueRanges.containsKey(configEntry.getPath()))
+                    return false;
+                modifiedEntries.add(configEntry);
             }
         }
+        if (modifiedEntries.isEmpty())
+            return true;
+
+        // Fingerprints do not detect changes that keep the size within the granularity of the modification time, so
+        // the content is compared as well before values are replaced at the recorded positions
+        if (!this.content.equals(readFully(this.resource.getReader())))
+            return false;
+
+        Map<String, String> replacements = new HashMap<>();
+        ObjectWriter writer = this.mapper.writerWithDefaultPrettyPrinter();
+        for (WritableConfigEntry<?> configEntry : modifiedEntries) {
+            ValueRange range = this.valueRanges.get(configEntry.getPath());
+            String value = writer.writeValueAsString(this.valueToTree(configEntry));
+            replacements.put(configEntry.getPath(), value.replace("\n", "\n" + this.getIndentation(range.start)));
+        }
+
+        // Ranges never overlap as paths are prefix-free, so all ranges can be shifted in a single pass
+        List<Map.Entry<String, ValueRange>> ranges = new ArrayList<>(this.valueRanges.entrySet());
+        ranges.sort(Comparator.comparingInt(entry -> entry.getValue().start));
+        StringBuilder builder = new StringBuilder(this.content.length());
+        Map<String, ValueRange> newRanges = new HashMap<>();
+        int position = 0;
+        for (Map.Entry<String, ValueRange> entry : ranges) {
+            ValueRange range = entry.getValue();
+            builder.append(this.content, position, range.start);
+            int start = builder.length();
+            String replacement = replacements.get(entry.getKey());
+            builder.append(replacement != null ? replacement : this.content.substring(range.start, range.end));
+            newRanges.put(entry.getKey(), new ValueRange(start, builder.length()));
+            position = range.end;
+        }
+        builder.append(this.content, position, this.content.length());
+
+        String content = builder.toString();
+        try (Writer resourceWriter = this.resource.getWriter()) {
+            resourceWriter.write(content);
+            Committable.commit(resourceWriter);
+        }
+        this.setUnparsedRoot(content);
+        this.setContent(content, this.resource.getFingerprint(), newRanges);
+        return true;
+    }
 
-        if (shouldWrite)
-            this.mapper.writerWithDefaultPrettyPrinter().writeValue(this.resource.getWriter(), this.root);
+    private @NotNull String getIndentation(int position) {
+        int lineStart = this.content.lastIndexOf('\n', position - 1) + 1;
+        int indentationEnd = lineStart;
+        while (indentationEnd < position && (this.content.charAt(indentationEnd) == ' ' || this.content.charAt(indentationEnd) == '\t'))
+            indentationEnd++;
+        return this.content.substring(lineStart, indentationEnd);
+    }
+
+    private @NotNull JsonNode valueToTree(@NotNull WritableConfigEntry<?> configEntry) {
+        return this.mapper.valueToTree(configEntry.getValueToWrite(key -> {
+            // Ignore all comments
+            if (key instanceof EntryDescriptor)
+                return ((EntryDescriptor) key).getValue();
+            return key;
+        }));
+    }
+
+    private void writeRoot(@NotNull ObjectNode root) throws IOException {
+        ObjectWriter writer = this.mapper.writerWithDefaultPrettyPrinter();
+        if (!this.incrementalWrite) {
+            // The stream is committed before it is closed, so Jackson must not close it
+            try (OutputStream outputStream = this.resource.getOutputStream()) {
+                writer.without(JsonGenerator.Feature.AUTO_CLOSE_TARGET).writeValue(outputStream, root);
+                Committable.commit(outputStream);
+            }
+            return;
+        }
+
+        String content = writer.writeValueAsString(root);
+        try (Writer resourceWriter = this.resource.getWriter()) {
+            resourceWriter.write(content);
+            Committable.commit(resourceWriter);
+        }
+
+        this.clearContent();
+        Object fingerprint = this.resource.getFingerprint();
+        Map<String, ValueRange> valueRanges = new HashMap<>();
+        try (JsonParser parser = this.mapper.createParser(content)) {
+            if (this.startDocument(parser))
+                this.readValues(parser, this.getPathIndex(), valueRanges, false);
+        }
+        this.setContent(content, fingerprint, valueRanges);
+    }
+
+    private void setContent(@NotNull String content, @Nullable Object fingerprint, @NotNull Map<String, ValueRange> valueRanges) {
+        if (fingerprint == null)
+            return;
+        this.content = content;
+        this.contentFingerprint = fingerprint;
+        this.valueRanges.putAll(valueRanges);
+    }
+
+    private void clearContent() {
+        this.content = null;
+        this.contentFingerprint = null;
+        this.valueRanges.clear();
     }
 
     @Override
     public @Unmodifiable @NotNull Set<@NotNull String> prune() throws IOException {
-        if (this.root == null)
-            throw new IllegalStateException();
-        if (!this.resource.exists())
-            return Collections.emptySet();
+        synchronized (this.getWriteLock()) {
+            if (!this.loaded)
+                throw new IllegalStateException();
+            if (!this.resource.exists())
+                return Collections.emptySet();
 
-        Set<String> pathsRemoved = new HashSet<>();
-        if (stripNodes("", this.root, this.getPaths(), pathsRemoved))
-            this.mapper.writerWithDefaultPrettyPrinter().writeValue(this.resource.getWriter(), this.root);
-        return Collections.unmodifiableSet(pathsRemoved);
+            ObjectNode root = this.getRoot();
+            Set<String> pathsRemoved = new HashSet<>();
+            if (stripNodes("", root, this.getPaths(), pathsRemoved))
+                this.writeRoot(root);
+            return Collections.unmodifiableSet(pathsRemoved);
+        }
+    }
+
+    @Override
+    protected @NotNull Resource getResource() {
+        return this.resource;
     }
 
     @Override
     public void close() {
+        synchronized (this.getWriteLock()) {
+            this.flushPendingWrite();
+            this.loaded = false;
+            this.setRoot(null);
+            this.clearContent();
+        }
+    }
+
+    /**
+     * Reads the values of all entries in the given subtree from the token stream.
+     *
+     * @param parser a parser positioned at the start of an object
+     * @param node   the path index node corresponding to that object
+     * @throws IOException if an I/O exception occurs
+     */
+    protected void loadValues(@NotNull JsonParser parser, @NotNull PathNode node) throws IOException {
+        this.readValues(parser, node, null, true);
+    }
+
+    /**
+     * Reads the values of all entries in the given subtree from the token stream.
+     *
+     * @param parser      a parser positioned at the start of an object
+     * @param node        the path index node corresponding to that object
+     * @param valueRanges if not {@code null}, the position of each value in the parsed content is put into this map
+     * @param putValues   whether the values should be passed to the entries
+     * @throws IOException if an I/O exception occurs
+     */
+    private void readValues(@NotNull JsonParser parser, @NotNull PathNode node, @Nullable Map<String, ValueRange> valueRanges, boolean putValues) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            PathNode child = node.getChild(parser.currentName());
+            JsonToken token = parser.nextToken();
+            if (child == null) {
+                parser.skipChildren();
+                continue;
+            }
+
+            WritableConfigEntry<?> configEntry = (WritableConfigEntry<?>) child.getEntry();
+            if (configEntry != null) {
+                int start = (int) parser.currentTokenLocation().getCharOffset();
+                if (putValues) {
+                    Object value = this.mapper.readValue(parser, Object.class);
+                    configEntry.putValue(value, this.getExceptionHandler());
+                } else {
+                    parser.skipChildren();
+                    // Scalar values are decoded lazily; finish the token so the end offset lies behind the value
+                    parser.finishToken();
+                }
+                if (valueRanges != null)
+                    valueRanges.put(configEntry.getPath(), new ValueRange(start, (int) parser.currentLocation().getCharOffset()));
+            } else if (token == JsonToken.START_OBJECT)
+                this.readValues(parser, child, valueRanges, putValues);
+            else
+                parser.skipChildren();
+        }
+    }
+
+    /**
+     * Returns the parsed document. The document is only parsed when it is needed for the first time after the config
+     * has been (re)loaded. It is built from the content that has been read or written last, so external changes made
+     * since then are overwritten by the next write, the same as if the document had been parsed while reloading.
+     *
+     * @return the parsed document
+     * @throws IOException if an I/O exception occurs
+     */
+    protected @NotNull ObjectNode getRoot() throws IOException {
+        if (this.root == null) {
+            Object content = this.unparsedRoot;
+            JsonNode root = content instanceof byte[] ? this.mapper.readTree((byte[]) content) : this.mapper.readTree((String) content);
+            if (root == null || root instanceof MissingNode)
+                this.setRoot(JsonNodeFactory.instance.objectNode());
+            else if (root instanceof ObjectNode)
+                this.setRoot((ObjectNode) root);
+            else
+                throw new IOException("Expected an object but found " + root.getNodeType());
+        }
+        return this.root;
+    }
+
+    private void setRoot(@Nullable ObjectNode root) {
+        this.root = root;
+        this.unparsedRoot = null;
+    }
+
+    private void setUnparsedRoot(@NotNull Object content) {
         this.root = null;
+        this.unparsedRoot = content;
     }
 
     protected @Nullable JsonNode resolveNode(@NotNull String path) {
-        String[] pathSplit = path.split("\\.");
+        return this.resolveNode(path.split("\\."));
+    }
+
+    protected @Nullable JsonNode resolveNode(@NotNull String @NotNull [] pathSplit) {
         JsonNode node = this.root;
         for (String s : pathSplit) {
             if (node == null)
@@ -138,7 +411,10 @@ public abstract class JacksonConfigImpl extends ConfigImpl {
     }
 
     protected void putNode(@NotNull String path, @NotNull JsonNode value) {
-        String[] pathSplit = path.split("\\.");
+        this.putNode(path.split("\\."), value);
+    }
+
+    protected void putNode(@NotNull String @NotNull [] pathSplit, @NotNull JsonNode value) {
         ObjectNode node = this.root;
         for (int i = 0; i < pathSplit.length - 1; i++) {
             ObjectNode child = (ObjectNode) node.get(pathSplit[i]);
@@ -174,4 +450,37 @@ public abstract class JacksonConfigImpl extends ConfigImpl {
         }
         return changed;
     }
+
+    private static byte @NotNull [] readFully(@NotNull InputStream inputStream) throws IOException {
+        try (InputStream ignored = inputStream) {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int length;
+            while ((length = inputStream.read(buffer)) != -1)
+                outputStream.write(buffer, 0, length);
+            return outputStream.toByteArray();
+        }
+    }
+
+    private static @NotNull String readFully(@NotNull Reader reader) throws IOException {
+        try (Reader ignored = reader) {
+            StringBuilder builder = new StringBuilder();
+            char[] buffer = new char[8192];
+            int length;
+            while ((length = reader.read(buffer)) != -1)
+                builder.append(buffer, 0, length);
+            return builder.toString();
+        }
+    }
+
+    private static class ValueRange {
+
+        private final int start;
+        private final int end; // exclusive
+
+        private ValueRange(int start, int end) {
+            this.start = start;
+            this.end = end;
+        }
+    }
 }
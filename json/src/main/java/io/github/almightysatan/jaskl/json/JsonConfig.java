@@ -34,18 +34,32 @@ import java.net.URL;
 
 public class JsonConfig extends JacksonConfigImpl {
 
-    private JsonConfig(@NotNull Resource resource, @Nullable ExceptionHandler exceptionHandler) {
-        super(new JsonMapper(), resource, null, exceptionHandler);
+    private JsonConfig(@NotNull Resource resource, @Nullable ExceptionHandler exceptionHandler, boolean atomicReload, boolean incrementalWrite) {
+        super(new JsonMapper(), resource, null, exceptionHandler, atomicReload, incrementalWrite);
     }
 
     /**
      * A builder that builds a {@link JsonConfig}.
      */
     public interface Builder extends ConfigBuilder<JsonConfig, Builder> {
+
+        /**
+         * Enables or disables incremental writes for the resulting config. If enabled, the config keeps the content of
+         * its resource in memory and {@link JsonConfig#write()} only replaces the values of modified entries. All other
+         * content, including its formatting, is written back unchanged. The whole document is still serialized if the
+         * resource has been modified externally or a modified entry does not exist in the resource yet. Disabled by
+         * default.
+         *
+         * @param incrementalWrite {@code true} to enable incremental writes
+         * @return This builder
+         */
+        @NotNull Builder withIncrementalWrite(boolean incrementalWrite);
     }
 
     private static class BuilderImpl extends ConfigBuilderImpl.ResourceConfigBuilderImpl<JsonConfig, Builder> implements Builder {
 
+        private boolean incrementalWrite;
+
         public BuilderImpl(@NotNull Resource resource) {
             super(resource);
         }
@@ -58,9 +72,15 @@ public class JsonConfig extends JacksonConfigImpl {
             super(url);
         }
 
+        @Override
+        public @NotNull Builder withIncrementalWrite(boolean incrementalWrite) {
+            this.incrementalWrite = incrementalWrite;
+            return this;
+        }
+
         @Override
         public @NotNull JsonConfig build() {
-            return new JsonConfig(this.resource, this.exceptionHandler);
+            return new JsonConfig(this.resource, this.exceptionHandler, this.atomicReload, this.incrementalWrite);
         }
     }
 
@@ -106,7 +126,7 @@ public class JsonConfig extends JacksonConfigImpl {
      * @return A new {@link JsonConfig} instance.
      */
     public static JsonConfig of(@NotNull Resource resource, @Nullable ExceptionHandler exceptionHandler) {
-        return new JsonConfig(resource, exceptionHandler);
+        return new JsonConfig(resource, exceptionHandler, false, false);
     }
 
     /**
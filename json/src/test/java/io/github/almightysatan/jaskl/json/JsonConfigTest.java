@@ -21,11 +21,18 @@
 package io.github.almightysatan.jaskl.json;
 
 import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ConfigEntry;
 import io.github.almightysatan.jaskl.ExceptionHandler;
+import io.github.almightysatan.jaskl.entries.StringConfigEntry;
 import io.github.almightysatan.jaskl.test.ConfigTest;
 import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 public class JsonConfigTest extends ConfigTest {
 
@@ -57,4 +64,25 @@ public class JsonConfigTest extends ConfigTest {
     protected boolean testConfigExists() {
         return FILE_TEST.exists();
     }
+
+    @Test
+    public void testWriteAfterExternalChange() throws IOException {
+        FILE_TEST.getParentFile().mkdirs();
+        Files.write(FILE_TEST.toPath(), "{\"loaded\": 1, \"example\": {\"string\": \"default\"}}".getBytes(StandardCharsets.UTF_8));
+
+        Config config = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry = StringConfigEntry.of(config, "example.string", null, "default");
+        config.load();
+
+        // The document that has been loaded is written, the external change is not merged
+        Files.write(FILE_TEST.toPath(), "{\"external\": 1}".getBytes(StandardCharsets.UTF_8));
+        stringConfigEntry.setValue("modified");
+        config.write();
+        config.close();
+
+        String content = new String(Files.readAllBytes(FILE_TEST.toPath()), StandardCharsets.UTF_8);
+        Assertions.assertTrue(content.contains("\"loaded\""));
+        Assertions.assertFalse(content.contains("\"external\""));
+        Assertions.assertTrue(content.contains("\"modified\""));
+    }
 }
@@ -0,0 +1,170 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.json;
+
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ConfigEntry;
+import io.github.almightysatan.jaskl.ExceptionHandler;
+import io.github.almightysatan.jaskl.Type;
+import io.github.almightysatan.jaskl.entries.IntegerConfigEntry;
+import io.github.almightysatan.jaskl.entries.ListConfigEntry;
+import io.github.almightysatan.jaskl.entries.StringConfigEntry;
+import io.github.almightysatan.jaskl.test.ConfigTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.attribute.FileTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+public class JsonIncrementalConfigTest extends ConfigTest {
+
+    private static final File FILE_EMPTY = new File("src/test/resources/empty.json");
+    private static final File FILE_EXAMPLE = new File("src/test/resources/example.json");
+    private static final File FILE_TEST = new File("build/tmp/test/test-incremental.json");
+
+    @Override
+    protected Config createEmptyConfig() {
+        return JsonConfig.builder(FILE_EMPTY).withIncrementalWrite(true).build();
+    }
+
+    @Override
+    protected Config createExampleConfig(@Nullable ExceptionHandler exceptionHandler) {
+        return JsonConfig.builder(FILE_EXAMPLE).withExceptionHandler(exceptionHandler).withIncrementalWrite(true).build();
+    }
+
+    @Override
+    protected Config createTestConfig() {
+        return JsonConfig.builder(FILE_TEST).withIncrementalWrite(true).build();
+    }
+
+    @Override
+    protected void clearTestConfig() {
+        FILE_TEST.delete();
+    }
+
+    @Override
+    protected boolean testConfigExists() {
+        return FILE_TEST.exists();
+    }
+
+    @Test
+    public void testIncrementalWrite() throws IOException {
+        FILE_TEST.getParentFile().mkdirs();
+        String content = "{\"unknown\":  [1,2],\n" +
+                "  \"example\" : {\n" +
+                "    \"string\":\"default\" , \"integer\": 1,\n" +
+                "    \"list\" : [ \"a\" ]\n" +
+                "  }\n" +
+                "}";
+        Files.write(FILE_TEST.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+        Config config0 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry0 = StringConfigEntry.of(config0, "example.string", null, "default");
+        ConfigEntry<Integer> intConfigEntry0 = IntegerConfigEntry.of(config0, "example.integer", null, 0);
+        ConfigEntry<List<String>> listConfigEntry0 = ListConfigEntry.of(config0, "example.list", null, Collections.emptyList(), Type.STRING);
+        config0.load();
+        Assertions.assertEquals(1, intConfigEntry0.getValue());
+
+        stringConfigEntry0.setValue("modified");
+        config0.write();
+        Assertions.assertEquals(content.replace("\"default\"", "\"modified\""), readTestConfig());
+
+        intConfigEntry0.setValue(12345);
+        listConfigEntry0.setValue(Arrays.asList("b", "c"));
+        config0.write();
+        Assertions.assertEquals("{\"unknown\":  [1,2],\n" +
+                "  \"example\" : {\n" +
+                "    \"string\":\"modified\" , \"integer\": 12345,\n" +
+                "    \"list\" : [ \"b\", \"c\" ]\n" +
+                "  }\n" +
+                "}", readTestConfig());
+        config0.close();
+
+        Config config1 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry1 = StringConfigEntry.of(config1, "example.string", null, "default");
+        ConfigEntry<List<String>> listConfigEntry1 = ListConfigEntry.of(config1, "example.list", null, Collections.emptyList(), Type.STRING);
+        config1.load();
+        Assertions.assertEquals("modified", stringConfigEntry1.getValue());
+        Assertions.assertEquals(Arrays.asList("b", "c"), listConfigEntry1.getValue());
+        config1.close();
+    }
+
+    @Test
+    public void testIncrementalWriteAfterFullWrite() throws IOException {
+        Config config0 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry0 = StringConfigEntry.of(config0, "example.string", null, "default");
+        ConfigEntry<Integer> intConfigEntry0 = IntegerConfigEntry.of(config0, "example.integer", null, 0);
+        config0.load();
+        config0.write();
+
+        stringConfigEntry0.setValue("modified");
+        config0.write();
+        intConfigEntry0.setValue(12345);
+        config0.write();
+        config0.close();
+
+        Config config1 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry1 = StringConfigEntry.of(config1, "example.string", null, "default");
+        ConfigEntry<Integer> intConfigEntry1 = IntegerConfigEntry.of(config1, "example.integer", null, 0);
+        config1.load();
+        Assertions.assertEquals("modified", stringConfigEntry1.getValue());
+        Assertions.assertEquals(12345, intConfigEntry1.getValue());
+        config1.close();
+    }
+
+    @Test
+    public void testIncrementalWriteAfterExternalChange() throws IOException {
+        FILE_TEST.getParentFile().mkdirs();
+        Files.write(FILE_TEST.toPath(), "{\"unknown\": \"xx\", \"example\": {\"string\": \"default\"}}".getBytes(StandardCharsets.UTF_8));
+
+        Config config0 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry0 = StringConfigEntry.of(config0, "example.string", null, "default");
+        config0.load();
+
+        // The size and modification time are unchanged, but the value has been moved
+        FileTime lastModifiedTime = Files.getLastModifiedTime(FILE_TEST.toPath());
+        Files.write(FILE_TEST.toPath(), "{\"unknown\": \"xxxxx\", \"example\": {\"string\": \"defa\"}}".getBytes(StandardCharsets.UTF_8));
+        Files.setLastModifiedTime(FILE_TEST.toPath(), lastModifiedTime);
+
+        // The change is detected, so the document is written completely instead of being spliced at stale positions
+        stringConfigEntry0.setValue("modified");
+        config0.write();
+        config0.close();
+        Assertions.assertNotEquals("{\"unknown\": \"xx\", \"example\": {\"string\": \"modified\"}}", readTestConfig());
+
+        Config config1 = this.createTestConfig();
+        ConfigEntry<String> stringConfigEntry1 = StringConfigEntry.of(config1, "example.string", null, "default");
+        config1.load();
+        Assertions.assertEquals("modified", stringConfigEntry1.getValue());
+        config1.close();
+    }
+
+    private static String readTestConfig() throws IOException {
+        return new String(Files.readAllBytes(FILE_TEST.toPath()), StandardCharsets.UTF_8);
+    }
+}
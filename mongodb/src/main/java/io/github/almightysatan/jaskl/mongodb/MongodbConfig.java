@@ -20,18 +20,24 @@
 
 package io.github.almightysatan.jaskl.mongodb;
 
+import com.mongodb.MongoBulkWriteException;
 import com.mongodb.MongoException;
-import com.mongodb.client.FindIterable;
-import com.mongodb.client.MongoClient;
-import com.mongodb.client.MongoClients;
-import com.mongodb.client.MongoCollection;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.*;
 import com.mongodb.client.model.*;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import com.mongodb.client.model.changestream.FullDocument;
+import io.github.almightysatan.jaskl.Config;
 import io.github.almightysatan.jaskl.ConfigBuilder;
+import io.github.almightysatan.jaskl.ConfigEntry;
 import io.github.almightysatan.jaskl.ExceptionHandler;
 import io.github.almightysatan.jaskl.impl.ConfigBuilderImpl;
 import io.github.almightysatan.jaskl.impl.ConfigImpl;
 import io.github.almightysatan.jaskl.impl.WritableConfigEntry;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
 import org.bson.Document;
+import org.bson.conversions.Bson;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.Unmodifiable;
@@ -40,144 +46,560 @@ import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class MongodbConfig extends ConfigImpl {
 
     private final static UpdateOptions UPDATE_OPTIONS = new UpdateOptions().upsert(true);
+    private final static BulkWriteOptions BULK_WRITE_OPTIONS = new BulkWriteOptions().ordered(false);
+    private final static int DEFAULT_WRITE_BATCH_SIZE = 1000;
+    private final static int WRITE_ATTEMPTS = 2; // A failed batch is retried once
+    private final static List<Bson> CHANGE_STREAM_PIPELINE = Collections.singletonList(Aggregates.match(Filters.in("operationType", "insert", "update", "replace")));
+    private final static long CHANGE_STREAM_RETRY_MILLIS = 1000;
+    private final static long CHANGE_STREAM_MAX_RETRY_MILLIS = 60000;
+    private final static Bson VALUE_PROJECTION = Projections.include("value");
+    private final static Bson ID_PROJECTION = Projections.include("_id");
+    private final static int MAX_FILTER_SIZE = 1000; // The maximum number of ids per $in filter
 
-    private final String address;
+    private final String address; // null if the client is supplied by the caller
     private final String database;
     private final String collection;
+    private final boolean changeStream;
+    private final int writeBatchSize;
+    private final AtomicLong writeRoundTrips = new AtomicLong();
+    private final AtomicLong documentsWritten = new AtomicLong();
+    private final boolean ownsClient;
+    private final boolean sharedClient;
+    private final Executor executor; // null if the default executor is used
     private MongoClient mongoClient;
     private MongoCollection<Document> mongoCollection;
+    private final Object changeStreamLock = new Object();
+    private volatile MongoChangeStreamCursor<ChangeStreamDocument<Document>> changeStreamCursor; // Replaced when the change stream is resumed
 
-    private MongodbConfig(@NotNull String address, @NotNull String database, @NotNull String collection, @Nullable ExceptionHandler exceptionHandler) {
-        super(null, exceptionHandler, null);
-        this.address = Objects.requireNonNull(address);
+    private MongodbConfig(@Nullable String address, @Nullable MongoClient mongoClient, @NotNull String database, @NotNull String collection, @Nullable ExceptionHandler exceptionHandler, boolean atomicReload, boolean changeStream, int writeBatchSize, @Nullable Executor executor, boolean sharedClient) {
+        super(null, exceptionHandler, null, atomicReload);
+        if ((address == null) == (mongoClient == null))
+            throw new IllegalArgumentException("Either an address or a client is required");
+        this.address = address;
+        this.mongoClient = mongoClient;
+        this.ownsClient = mongoClient == null;
+        this.sharedClient = sharedClient;
+        this.executor = executor;
         this.database = Objects.requireNonNull(database);
         this.collection = Objects.requireNonNull(collection);
+        this.changeStream = changeStream;
+        this.writeBatchSize = writeBatchSize;
     }
 
     @Override
     public void load() throws IOException, IllegalStateException {
-        if (this.mongoClient != null) {
-            throw new IllegalStateException();
-        }
-        this.mongoClient = MongoClients.create("mongodb://" + address);
-        this.mongoCollection = this.mongoClient.getDatabase(database).getCollection(this.collection);
+        synchronized (this.getWriteLock()) {
+            if (this.mongoCollection != null) {
+                throw new IllegalStateException();
+            }
+            if (this.ownsClient)
+                this.mongoClient = this.sharedClient ? SharedClients.acquire(this.address) : MongoClients.create("mongodb://" + this.address);
+
+            try {
+                this.mongoCollection = this.mongoClient.getDatabase(this.database).getCollection(this.collection);
+                // The change stream is opened before reading, so no change is missed in between
+                if (this.changeStream)
+                    this.changeStreamCursor = this.openChangeStream(null);
+                this.reload();
+            } catch (IOException | RuntimeException e) {
+                // Release the cursor and the client, so the config can be loaded again
+                this.close();
+                if (e instanceof MongoException)
+                    throw new IOException(e);
+                throw e;
+            }
 
-        this.reload();
+            if (!this.changeStream)
+                return;
+            Thread thread = new Thread(this::watchChangeStream, "JASKL MongoDB Change Stream");
+            thread.setDaemon(true);
+            thread.start();
+        }
     }
 
     @Override
     public void reload() throws IOException, IllegalStateException {
-        if (this.mongoCollection == null)
-            throw new IllegalStateException();
+        synchronized (this.getWriteLock()) {
+            if (this.mongoCollection == null)
+                throw new IllegalStateException();
 
-        Map<String, Document> entries = new HashMap<>();
-        try {
-            FindIterable<Document> documents = this.mongoCollection.find();
-            for (Document document : documents)
-                entries.put(document.getString("_id"), document);
-        } catch (MongoException e) {
-            throw new IOException(e);
-        }
+            // Only the documents of registered entries are fetched, the collection may be shared with other configs
+            Map<String, Document> entries = new HashMap<>();
+            try {
+                List<String> paths = new ArrayList<>(this.getPaths());
+                for (int i = 0; i < paths.size(); i += MAX_FILTER_SIZE) {
+                    List<String> chunk = paths.subList(i, Math.min(i + MAX_FILTER_SIZE, paths.size()));
+                    FindIterable<Document> documents = this.mongoCollection.find(Filters.in("_id", chunk)).projection(VALUE_PROJECTION);
+                    for (Document document : documents)
+                        entries.put(document.getString("_id"), document);
+                }
+            } catch (MongoException e) {
+                throw new IOException(e);
+            }
 
-        for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
-            Document document = entries.get(configEntry.getPath());
+            this.updateValues(() -> {
+                for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
+                    Document document = entries.get(configEntry.getPath());
 
-            if (document != null) {
-                Object value = document.get("value");
-                if (value != null)
-                    configEntry.putValue(value, this.getExceptionHandler());
-            }
+                    if (document != null) {
+                        Object value = document.get("value");
+                        if (value != null)
+                            configEntry.putValue(value, this.getExceptionHandler());
+                    }
+                }
+            });
         }
     }
 
     @Override
     public void write() throws IOException {
-        if (this.mongoCollection == null)
-            throw new IllegalStateException();
-
-        List<WriteModel<? extends Document>> writeModels = new ArrayList<>();
-        for (WritableConfigEntry<?> configEntry : this.getCastedValues())
-            if (configEntry.isModified()) {
-                Document document = new Document();
-                Object value = configEntry.getValueToWrite(Object::toString);
-                if (value instanceof BigInteger)
-                    value = value.toString();
-                if (value instanceof BigDecimal)
-                    value = value.toString();
-                document.put("value", value);
-
-                Document updateDocument = new Document();
-                updateDocument.put("$set", document);
-
-                writeModels.add(new UpdateOneModel<>(Filters.eq("_id", configEntry.getPath()), updateDocument, UPDATE_OPTIONS));
+        synchronized (this.getWriteLock()) {
+            if (this.mongoCollection == null)
+                throw new IllegalStateException();
+
+            List<WriteModel<? extends Document>> writeModels = new ArrayList<>();
+            List<WritableConfigEntry<?>> modifiedEntries = new ArrayList<>(); // The entry of each write model
+            for (WritableConfigEntry<?> configEntry : this.getCastedValues())
+                if (configEntry.isModified()) {
+                    Document document = new Document();
+                    Object value = configEntry.getValueToWrite(Object::toString);
+                    if (value instanceof BigInteger)
+                        value = value.toString();
+                    if (value instanceof BigDecimal)
+                        value = value.toString();
+                    document.put("value", value);
+
+                    Document updateDocument = new Document();
+                    updateDocument.put("$set", document);
+
+                    writeModels.add(new UpdateOneModel<>(Filters.eq("_id", configEntry.getPath()), updateDocument, UPDATE_OPTIONS));
+                    modifiedEntries.add(configEntry);
+                }
+
+            // Batches are independent of each other, so a failed batch does not prevent the others from being written
+            MongoException exception = null;
+            for (int i = 0; i < writeModels.size(); i += this.writeBatchSize) {
+                int end = Math.min(i + this.writeBatchSize, writeModels.size());
+                try {
+                    this.writeBatch(writeModels.subList(i, end), modifiedEntries.subList(i, end));
+                } catch (MongoException e) {
+                    if (exception == null)
+                        exception = e;
+                    else
+                        exception.addSuppressed(e);
+                }
             }
-        if (!writeModels.isEmpty())
+            if (exception != null)
+                throw new IOException(exception);
+        }
+    }
+
+    private void writeBatch(@NotNull List<WriteModel<? extends Document>> batch, @NotNull List<WritableConfigEntry<?>> entries) {
+        for (int attempt = 1; ; attempt++) {
+            this.writeRoundTrips.incrementAndGet();
             try {
-                this.mongoCollection.bulkWrite(writeModels);
+                this.mongoCollection.bulkWrite(batch, BULK_WRITE_OPTIONS);
+                this.documentsWritten.addAndGet(batch.size());
+                return;
+            } catch (MongoBulkWriteException e) {
+                // The bulk write is unordered, so only the models with a write error have not been written
+                if (!e.getWriteErrors().isEmpty()) {
+                    List<WriteModel<? extends Document>> failedModels = new ArrayList<>();
+                    List<WritableConfigEntry<?>> failedEntries = new ArrayList<>();
+                    for (BulkWriteError error : e.getWriteErrors()) {
+                        failedModels.add(batch.get(error.getIndex()));
+                        failedEntries.add(entries.get(error.getIndex()));
+                    }
+                    this.documentsWritten.addAndGet(batch.size() - failedModels.size());
+                    batch = failedModels;
+                    entries = failedEntries;
+                }
+                if (attempt >= WRITE_ATTEMPTS) {
+                    entries.forEach(WritableConfigEntry::markModified);
+                    throw e;
+                }
             } catch (MongoException e) {
-                throw new IOException(e);
+                if (attempt >= WRITE_ATTEMPTS) {
+                    entries.forEach(WritableConfigEntry::markModified);
+                    throw e;
+                }
             }
+        }
+    }
+
+    /**
+     * Returns the number of bulk writes sent to the database by {@link #write()}, including retries.
+     *
+     * @return the number of write round-trips
+     */
+    public long getWriteRoundTrips() {
+        return this.writeRoundTrips.get();
+    }
+
+    /**
+     * Returns the number of documents successfully written by {@link #write()}.
+     *
+     * @return the number of documents written
+     */
+    public long getDocumentsWritten() {
+        return this.documentsWritten.get();
     }
 
     @Override
     public @Unmodifiable @NotNull Set<@NotNull String> prune() throws IOException {
-        if (this.mongoCollection == null)
-            throw new IllegalStateException();
+        synchronized (this.getWriteLock()) {
+            if (this.mongoCollection == null)
+                throw new IllegalStateException();
 
-        Set<String> pathsRemoved = new HashSet<>();
-        try {
-            Collection<String> paths = this.getPaths();
-            List<WriteModel<? extends Document>> writeModels = new ArrayList<>();
-            FindIterable<Document> documents = this.mongoCollection.find();
-            for (Document document : documents) {
-                String path = document.getString("_id");
-                if (!paths.contains(path)) {
-                    pathsRemoved.add(path);
-                    writeModels.add(new DeleteOneModel<>(Filters.eq("_id", path)));
+            // Only the ids that have been read are deleted, so documents inserted in the meantime are kept. The ids are
+            // compared locally, since a $nin filter containing every path could exceed the maximum document size.
+            Set<String> pathsRemoved = new HashSet<>();
+            List<Object> ids = new ArrayList<>();
+            try {
+                for (Document document : this.mongoCollection.find().projection(ID_PROJECTION)) {
+                    Object id = document.get("_id");
+                    if (!this.getEntryMap().containsKey(id)) {
+                        ids.add(id);
+                        pathsRemoved.add(String.valueOf(id));
+                    }
+                }
+                for (int i = 0; i < ids.size(); i += MAX_FILTER_SIZE)
+                    this.mongoCollection.deleteMany(Filters.in("_id", ids.subList(i, Math.min(i + MAX_FILTER_SIZE, ids.size()))));
+            } catch (MongoException e) {
+                throw new IOException(e);
+            }
+            return Collections.unmodifiableSet(pathsRemoved);
+        }
+    }
+
+    private @NotNull MongoChangeStreamCursor<ChangeStreamDocument<Document>> openChangeStream(@Nullable BsonDocument resumeToken) {
+        ChangeStreamIterable<Document> iterable = this.mongoCollection.watch(CHANGE_STREAM_PIPELINE).fullDocument(FullDocument.UPDATE_LOOKUP);
+        if (resumeToken != null)
+            iterable.resumeAfter(resumeToken);
+        return iterable.cursor();
+    }
+
+    private void watchChangeStream() {
+        MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = this.changeStreamCursor;
+        BsonDocument resumeToken = null;
+        long retryMillis = CHANGE_STREAM_RETRY_MILLIS;
+        while (true) {
+            try {
+                while (cursor.hasNext()) {
+                    ChangeStreamDocument<Document> change = cursor.next();
+                    resumeToken = change.getResumeToken();
+                    retryMillis = CHANGE_STREAM_RETRY_MILLIS;
+                    BsonDocument documentKey = change.getDocumentKey();
+                    BsonValue id = documentKey != null ? documentKey.get("_id") : null;
+                    if (id != null && id.isString())
+                        this.applyChange(id.asString().getValue(), change.getFullDocument());
+                }
+            } catch (RuntimeException e) {
+                if (this.changeStreamCursor != cursor)
+                    return; // Closed
+                this.getExceptionHandler().handleBackground(this, e);
+            }
+
+            // The driver already retries resumable errors once, so further attempts are delayed exponentially
+            if (resumeToken == null)
+                resumeToken = cursor.getResumeToken();
+            while (true) {
+                try {
+                    Thread.sleep(retryMillis);
+                } catch (InterruptedException e) {
+                    return;
                 }
+                retryMillis = Math.min(retryMillis * 2, CHANGE_STREAM_MAX_RETRY_MILLIS);
+
+                RuntimeException exception;
+                synchronized (this.changeStreamLock) {
+                    if (this.changeStreamCursor != cursor)
+                        return; // Closed
+                    try {
+                        cursor.close();
+                        this.changeStreamCursor = cursor = this.openChangeStream(resumeToken);
+                        break;
+                    } catch (RuntimeException e) {
+                        exception = e;
+                    }
+                }
+                this.getExceptionHandler().handleBackground(this, exception);
             }
-            if (!writeModels.isEmpty())
-                this.mongoCollection.bulkWrite(writeModels);
-        } catch (MongoException e) {
-            throw new IOException(e);
         }
-        return Collections.unmodifiableSet(pathsRemoved);
+    }
+
+    /**
+     * Applies a document received from the change stream to the entry with the given path. Exceptions are reported to
+     * {@link ExceptionHandler#handleBackground(Config, Throwable)}, so the change stream
+     * keeps running.
+     *
+     * @param path     the {@code _id} of the changed document
+     * @param document the changed document or {@code null} if it has been deleted since
+     */
+    void applyChange(@NotNull String path, @Nullable Document document) {
+        ConfigEntry<?> configEntry = this.getEntryMap().get(path);
+        if (!(configEntry instanceof WritableConfigEntry) || document == null)
+            return;
+        Object value = document.get("value");
+        if (value == null)
+            return;
+
+        try {
+            this.updateValues(() -> ((WritableConfigEntry<?>) configEntry).putValue(value, this.getExceptionHandler()));
+        } catch (RuntimeException e) {
+            this.getExceptionHandler().handleBackground(this, e);
+        }
     }
 
     @Override
     public void close() {
-        if (this.mongoClient != null) {
-            this.mongoClient.close();
-            this.mongoClient = null;
+        synchronized (this.getWriteLock()) {
+            this.flushPendingWrite();
+            synchronized (this.changeStreamLock) {
+                MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = this.changeStreamCursor;
+                if (cursor != null) {
+                    this.changeStreamCursor = null;
+                    cursor.close();
+                }
+            }
+            if (this.ownsClient && this.mongoClient != null) {
+                if (this.sharedClient)
+                    SharedClients.release(this.address);
+                else
+                    this.mongoClient.close();
+                this.mongoClient = null;
+            }
             this.mongoCollection = null;
         }
     }
 
+    /**
+     * Calls {@link #load()} using the executor of this config.
+     *
+     * @return a future that is completed once the config has been loaded
+     */
+    public @NotNull CompletableFuture<Void> loadAsync() {
+        return this.supplyAsync(() -> {
+            this.load();
+            return null;
+        });
+    }
+
+    /**
+     * Calls {@link #reload()} using the executor of this config.
+     *
+     * @return a future that is completed once the config has been reloaded
+     */
+    public @NotNull CompletableFuture<Void> reloadAsync() {
+        return this.supplyAsync(() -> {
+            this.reload();
+            return null;
+        });
+    }
+
+    /**
+     * Calls {@link #prune()} using the executor of this config.
+     *
+     * @return a future that is completed with the removed paths
+     */
+    public @NotNull CompletableFuture<@Unmodifiable @NotNull Set<@NotNull String>> pruneAsync() {
+        return this.supplyAsync(this::prune);
+    }
+
+    @Override
+    protected @NotNull Executor getWriteExecutor() {
+        return this.executor != null ? this.executor : AsyncExecutor.EXECUTOR;
+    }
+
+    private <T> @NotNull CompletableFuture<T> supplyAsync(@NotNull DatabaseOperation<T> operation) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            this.getWriteExecutor().execute(() -> {
+                try {
+                    future.complete(operation.run());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            future.completeExceptionally(e);
+        }
+        return future;
+    }
+
+    @FunctionalInterface
+    private interface DatabaseOperation<T> {
+
+        T run() throws IOException;
+    }
+
+    /**
+     * Clients shared by all configs with the same address. A client is created when the first config is loaded and
+     * closed when the last config is closed.
+     */
+    private static class SharedClients {
+
+        private static final Map<String, SharedClient> CLIENTS = new HashMap<>();
+
+        private static synchronized @NotNull MongoClient acquire(@NotNull String address) {
+            SharedClient client = CLIENTS.get(address);
+            if (client == null) {
+                client = new SharedClient(MongoClients.create("mongodb://" + address));
+                CLIENTS.put(address, client);
+            }
+            client.references++;
+            return client.mongoClient;
+        }
+
+        private static synchronized void release(@NotNull String address) {
+            SharedClient client = CLIENTS.get(address);
+            if (client != null && --client.references == 0) {
+                CLIENTS.remove(address);
+                client.mongoClient.close();
+            }
+        }
+
+        private static class SharedClient {
+
+            private final MongoClient mongoClient;
+            private int references;
+
+            private SharedClient(@NotNull MongoClient mongoClient) {
+                this.mongoClient = mongoClient;
+            }
+        }
+    }
+
+    private static class AsyncExecutor {
+
+        // Created when the first asynchronous operation is started
+        private static final ExecutorService EXECUTOR;
+
+        static {
+            AtomicInteger threadId = new AtomicInteger();
+            EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "JASKL MongoDB #" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
     /**
      * A {@link ConfigBuilder} that builds a {@link MongodbConfig}.
      */
     public interface Builder extends ConfigBuilder<MongodbConfig, Builder> {
+
+        /**
+         * Enables or disables live reloads for the resulting config. If enabled, {@link MongodbConfig#load()} opens a
+         * change stream on the collection and a daemon thread puts the values of inserted, updated or replaced
+         * documents into the matching entries until the config is closed. Listeners are notified as usual. Errors are
+         * reported to {@link ExceptionHandler#handleBackground(Config, Throwable)} and the stream is resumed with an
+         * exponentially increasing delay of up to one minute. Change streams require a replica set or sharded cluster.
+         * Disabled by default.
+         *
+         * @param changeStream {@code true} to enable live reloads
+         * @return This builder
+         */
+        @NotNull Builder withChangeStream(boolean changeStream);
+
+        /**
+         * Sets the maximum number of modified entries sent to the database in a single bulk write by
+         * {@link MongodbConfig#write()}. Batches are written unordered and a failed batch is retried once, only
+         * writing the documents that failed. Entries that could not be written remain modified, so they are written
+         * again by the next write. Defaults to {@code 1000}.
+         *
+         * @param writeBatchSize The maximum number of documents per bulk write
+         * @return This builder
+         */
+        @NotNull Builder withWriteBatchSize(int writeBatchSize);
+
+        /**
+         * Sets the {@link Executor} used by {@link MongodbConfig#loadAsync()}, {@link MongodbConfig#reloadAsync()},
+         * {@link MongodbConfig#pruneAsync()} and {@link MongodbConfig#writeAsync(long)}, so slow database operations do
+         * not delay the asynchronous writes of other configs. The executor should not run on an event loop, as the
+         * database is accessed using the synchronous driver. A virtual thread per task executor avoids parking platform
+         * threads. Defaults to a cached pool of daemon threads shared by all MongoDB configs.
+         *
+         * @param executor The executor
+         * @return This builder
+         */
+        @NotNull Builder withExecutor(@Nullable Executor executor);
+
+        /**
+         * Enables or disables sharing the client with other configs. If enabled, all configs with the same address
+         * that enable this option use a single client and therefore a single connection pool. The client is created
+         * by the first call to {@link MongodbConfig#load()} and closed when the last config using it is
+         * {@link MongodbConfig#close() closed}. Has no effect if the config uses a client supplied by the caller.
+         * Disabled by default.
+         *
+         * @param sharedClient {@code true} to share the client
+         * @return This builder
+         */
+        @NotNull Builder withSharedClient(boolean sharedClient);
     }
 
     private static class BuilderImpl extends ConfigBuilderImpl<MongodbConfig, Builder> implements Builder {
 
         private final String address;
+        private final MongoClient mongoClient;
         private final String database;
         private final String collection;
+        private boolean changeStream;
+        private Executor executor;
+        private boolean sharedClient;
+        private int writeBatchSize = DEFAULT_WRITE_BATCH_SIZE;
 
         public BuilderImpl(@NotNull String address, @NotNull String database, @NotNull String collection) {
             this.address = Objects.requireNonNull(address);
+            this.mongoClient = null;
+            this.database = Objects.requireNonNull(database);
+            this.collection = Objects.requireNonNull(collection);
+        }
+
+        public BuilderImpl(@NotNull MongoClient mongoClient, @NotNull String database, @NotNull String collection) {
+            this.address = null;
+            this.mongoClient = Objects.requireNonNull(mongoClient);
             this.database = Objects.requireNonNull(database);
             this.collection = Objects.requireNonNull(collection);
         }
 
+        @Override
+        public @NotNull Builder withChangeStream(boolean changeStream) {
+            this.changeStream = changeStream;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder withWriteBatchSize(int writeBatchSize) {
+            if (writeBatchSize <= 0)
+                throw new IllegalArgumentException("Batch size must be positive");
+            this.writeBatchSize = writeBatchSize;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder withExecutor(@Nullable Executor executor) {
+            this.executor = executor;
+            return this;
+        }
+
+        @Override
+        public @NotNull Builder withSharedClient(boolean sharedClient) {
+            this.sharedClient = sharedClient;
+            return this;
+        }
+
         @Override
         public @NotNull MongodbConfig build() {
-            return new MongodbConfig(this.address, this.database, this.collection, this.exceptionHandler);
+            return new MongodbConfig(this.address, this.mongoClient, this.database, this.collection, this.exceptionHandler, this.atomicReload, this.changeStream, this.writeBatchSize, this.executor, this.sharedClient);
         }
     }
 
@@ -193,6 +615,19 @@ public class MongodbConfig extends ConfigImpl {
         return new BuilderImpl(address, database, collection);
     }
 
+    /**
+     * Returns a new {@link Builder} for a config using the given client. The client is shared with the caller and
+     * is not closed when the config is {@link MongodbConfig#close() closed}.
+     *
+     * @param mongoClient The client
+     * @param database    The name of the database
+     * @param collection  The name of the collection
+     * @return A new builder
+     */
+    public static @NotNull Builder builder(@NotNull MongoClient mongoClient, @NotNull String database, @NotNull String collection) {
+        return new BuilderImpl(mongoClient, database, collection);
+    }
+
     /**
      * Creates a new {@link MongodbConfig} instance.
      *
@@ -203,7 +638,7 @@ public class MongodbConfig extends ConfigImpl {
      * @return A new {@link MongodbConfig} instance
      */
     public static MongodbConfig of(@NotNull String address, @NotNull String database, @NotNull String collection, @Nullable ExceptionHandler exceptionHandler) {
-        return new MongodbConfig(address, database, collection, exceptionHandler);
+        return new MongodbConfig(Objects.requireNonNull(address), null, database, collection, exceptionHandler, false, false, DEFAULT_WRITE_BATCH_SIZE, null, false);
     }
 
     /**
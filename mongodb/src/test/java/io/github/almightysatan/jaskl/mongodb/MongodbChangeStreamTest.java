@@ -0,0 +1,141 @@
+/*
+ * JASKL - Just Another Simple Konfig Library
+ * Copyright (C) 2023 LeStegii, Almighty-Satan
+ *
+ * This library is free software; you can redistribute it and/or
+ * modify it under the terms of the GNU Lesser General Public
+ * License as published by the Free Software Foundation; either
+ * version 2.1 of the License, or (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the GNU
+ * Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301
+ * USA
+ */
+
+package io.github.almightysatan.jaskl.mongodb;
+
+import com.mongodb.MongoException;
+import com.mongodb.client.MongoChangeStreamCursor;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ReplaceOptions;
+import com.mongodb.client.model.changestream.ChangeStreamDocument;
+import io.github.almightysatan.jaskl.Config;
+import io.github.almightysatan.jaskl.ConfigEntry;
+import io.github.almightysatan.jaskl.ExceptionHandler;
+import io.github.almightysatan.jaskl.InvalidTypeException;
+import io.github.almightysatan.jaskl.entries.IntegerConfigEntry;
+import io.github.almightysatan.jaskl.entries.StringConfigEntry;
+import org.bson.Document;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+public class MongodbChangeStreamTest {
+
+    private static final String DATABASE = "JASKL_Test";
+    private static final String COLLECTION = "changeStream";
+
+    @Test
+    public void testApplyChange() {
+        // Changes are fed directly into the config, no database is required
+        MongodbConfig config = MongodbConfig.builder("localhost", DATABASE, COLLECTION).withChangeStream(true).build();
+        StringConfigEntry stringEntry = StringConfigEntry.of(config, "example.string", "default");
+        IntegerConfigEntry integerEntry = IntegerConfigEntry.of(config, "example.integer", 1);
+        List<Set<String>> changes = new ArrayList<>();
+        config.addListener(changes::add);
+
+        config.applyChange("example.string", new Document("_id", "example.string").append("value", "changed"));
+        Assertions.assertEquals("changed", stringEntry.getValue());
+        Assertions.assertEquals(Collections.singletonList(Collections.singleton("example.string")), changes);
+
+        // Unknown paths, deleted documents and documents without a value are ignored
+        config.applyChange("example.unknown", new Document("_id", "example.unknown").append("value", "x"));
+        config.applyChange("example.integer", null);
+        config.applyChange("example.integer", new Document("_id", "example.integer"));
+        Assertions.assertEquals(1, integerEntry.getValue());
+        Assertions.assertEquals(1, changes.size());
+
+        config.applyChange("example.integer", new Document("_id", "example.integer").append("value", 5));
+        Assertions.assertEquals(5, integerEntry.getValue());
+        Assertions.assertEquals(2, changes.size());
+    }
+
+    @Test
+    public void testApplyChangeException() {
+        List<Throwable> exceptions = new ArrayList<>();
+        ExceptionHandler exceptionHandler = new ExceptionHandler() {
+            @Override
+            public <T> T handle(@NotNull ConfigEntry<T> entry, @Nullable Object value, @NotNull Throwable exception) {
+                throw new InvalidTypeException(entry.getPath(), exception);
+            }
+
+            @Override
+            public void handleBackground(@NotNull Config config, @NotNull Throwable exception) {
+                exceptions.add(exception);
+            }
+        };
+        MongodbConfig config = MongodbConfig.builder("localhost", DATABASE, COLLECTION).withChangeStream(true).withExceptionHandler(exceptionHandler).build();
+        IntegerConfigEntry integerEntry = IntegerConfigEntry.of(config, "example.integer", 1);
+
+        // Invalid values are reported to the exception handler of the config instead of stopping the change stream
+        config.applyChange("example.integer", new Document("_id", "example.integer").append("value", "invalid"));
+        Assertions.assertEquals(1, integerEntry.getValue());
+        Assertions.assertEquals(1, exceptions.size());
+        Assertions.assertTrue(exceptions.get(0) instanceof InvalidTypeException);
+
+        config.applyChange("example.integer", new Document("_id", "example.integer").append("value", 5));
+        Assertions.assertEquals(5, integerEntry.getValue());
+        Assertions.assertEquals(1, exceptions.size());
+    }
+
+    @Test
+    public void testChangeStream() throws IOException, InterruptedException {
+        String mongoAddress = System.getenv("MONGO_ADDRESS");
+        Assumptions.assumeTrue(mongoAddress != null);
+
+        try (MongoClient mongoClient = MongoClients.create("mongodb://" + mongoAddress)) {
+            MongoCollection<Document> collection = mongoClient.getDatabase(DATABASE).getCollection(COLLECTION);
+            collection.drop();
+
+            // Change streams are not supported by standalone servers
+            try (MongoChangeStreamCursor<ChangeStreamDocument<Document>> cursor = collection.watch().cursor()) {
+                cursor.tryNext();
+            } catch (MongoException e) {
+                Assumptions.abort("Change streams are not supported: " + e.getMessage());
+            }
+
+            collection.insertOne(new Document("_id", "example.string").append("value", "initial"));
+
+            MongodbConfig config = MongodbConfig.builder(mongoAddress, DATABASE, COLLECTION).withChangeStream(true).build();
+            StringConfigEntry entry = StringConfigEntry.of(config, "example.string", "default");
+            config.load();
+            try {
+                Assertions.assertEquals("initial", entry.getValue());
+
+                collection.replaceOne(Filters.eq("_id", "example.string"), new Document("value", "changed"), new ReplaceOptions().upsert(true));
+                long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+                while (!entry.getValue().equals("changed") && System.nanoTime() < deadline)
+                    Thread.sleep(10);
+                Assertions.assertEquals("changed", entry.getValue());
+            } finally {
+                config.close();
+                collection.drop();
+            }
+        }
+    }
+}
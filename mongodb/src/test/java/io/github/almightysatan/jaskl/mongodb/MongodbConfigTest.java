@@ -24,15 +24,25 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.CreateCollectionOptions;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.ValidationOptions;
 import io.github.almightysatan.jaskl.Config;
 import io.github.almightysatan.jaskl.ExceptionHandler;
+import io.github.almightysatan.jaskl.entries.IntegerConfigEntry;
+import io.github.almightysatan.jaskl.entries.StringConfigEntry;
+import io.github.almightysatan.jaskl.impl.WritableConfigEntry;
 import io.github.almightysatan.jaskl.test.ConfigTest;
 import org.bson.Document;
 import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.*;
+import java.util.concurrent.CompletionException;
 
 public class MongodbConfigTest extends ConfigTest {
 
@@ -101,4 +111,107 @@ public class MongodbConfigTest extends ConfigTest {
     protected boolean testConfigExists() {
         return true; // doesn't really matter
     }
+
+    @Test
+    public void testAsyncWithSuppliedClient() {
+        try (MongoClient mongoClient = MongoClients.create("mongodb://" + mongoAddress)) {
+            MongodbConfig config = MongodbConfig.builder(mongoClient, DATABASE, COLLECTION_EXAMPLE).build();
+            StringConfigEntry entry = StringConfigEntry.of(config, "example.string", "default");
+
+            CompletionException exception = Assertions.assertThrows(CompletionException.class, () -> config.reloadAsync().join());
+            Assertions.assertTrue(exception.getCause() instanceof IllegalStateException);
+
+            config.loadAsync().join();
+            Assertions.assertEquals("modified", entry.getValue());
+            config.close();
+
+            // The client is owned by the caller and still usable
+            Assertions.assertNotNull(mongoClient.getDatabase(DATABASE).getCollection(COLLECTION_EXAMPLE).find(Filters.eq("_id", "example.string")).first());
+        }
+    }
+
+    @Test
+    public void testSharedClient() throws IOException {
+        MongodbConfig config0 = MongodbConfig.builder(mongoAddress, DATABASE, COLLECTION_EXAMPLE).withSharedClient(true).build();
+        MongodbConfig config1 = MongodbConfig.builder(mongoAddress, DATABASE, COLLECTION_EXAMPLE).withSharedClient(true).build();
+        StringConfigEntry entry = StringConfigEntry.of(config1, "example.string", "default");
+        config0.load();
+        config1.load();
+
+        // The client is still used by config1
+        config0.close();
+        config1.reload();
+        Assertions.assertEquals("modified", entry.getValue());
+        config1.close();
+
+        // A new client is created once all configs have been closed
+        MongodbConfig config2 = MongodbConfig.builder(mongoAddress, DATABASE, COLLECTION_EXAMPLE).withSharedClient(true).build();
+        config2.load();
+        config2.close();
+    }
+
+    @Test
+    public void testWriteBatches() throws IOException {
+        clearTestConfig();
+        MongodbConfig config = MongodbConfig.builder(mongoAddress, DATABASE, COLLECTION_TEST).withWriteBatchSize(2).build();
+        List<IntegerConfigEntry> entries = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            entries.add(IntegerConfigEntry.of(config, "example.integer" + i, 0));
+        config.load();
+        for (int i = 0; i < entries.size(); i++)
+            entries.get(i).setValue(i + 1);
+        config.write();
+        config.close();
+
+        Assertions.assertEquals(3, config.getWriteRoundTrips());
+        Assertions.assertEquals(5, config.getDocumentsWritten());
+
+        Config config1 = createTestConfig();
+        List<IntegerConfigEntry> entries1 = new ArrayList<>();
+        for (int i = 0; i < 5; i++)
+            entries1.add(IntegerConfigEntry.of(config1, "example.integer" + i, 0));
+        config1.load();
+        for (int i = 0; i < entries1.size(); i++)
+            Assertions.assertEquals(i + 1, entries1.get(i).getValue());
+        config1.close();
+    }
+
+    @Test
+    public void testWriteBatchFailure() throws IOException {
+        clearTestConfig();
+        try (MongoClient mongoClient = MongoClients.create("mongodb://" + mongoAddress)) {
+            ValidationOptions validationOptions = new ValidationOptions().validator(Filters.ne("value", "invalid"));
+            mongoClient.getDatabase(DATABASE).createCollection(COLLECTION_TEST, new CreateCollectionOptions().validationOptions(validationOptions));
+        }
+
+        MongodbConfig config = MongodbConfig.builder(mongoAddress, DATABASE, COLLECTION_TEST).build();
+        StringConfigEntry validEntry = StringConfigEntry.of(config, "example.valid", "default");
+        StringConfigEntry invalidEntry = StringConfigEntry.of(config, "example.invalid", "default");
+        config.load();
+        validEntry.setValue("valid");
+        invalidEntry.setValue("invalid");
+
+        // The valid document is written, the invalid one fails twice and stays modified
+        Assertions.assertThrows(IOException.class, config::write);
+        Assertions.assertEquals(2, config.getWriteRoundTrips());
+        Assertions.assertEquals(1, config.getDocumentsWritten());
+        Assertions.assertFalse(((WritableConfigEntry<?>) validEntry).isModified());
+        Assertions.assertTrue(((WritableConfigEntry<?>) invalidEntry).isModified());
+
+        // Only the failed entry is written again
+        invalidEntry.setValue("fixed");
+        config.write();
+        Assertions.assertEquals(3, config.getWriteRoundTrips());
+        Assertions.assertEquals(2, config.getDocumentsWritten());
+        config.close();
+
+        Config config1 = createTestConfig();
+        StringConfigEntry validEntry1 = StringConfigEntry.of(config1, "example.valid", "default");
+        StringConfigEntry invalidEntry1 = StringConfigEntry.of(config1, "example.invalid", "default");
+        config1.load();
+        Assertions.assertEquals("valid", validEntry1.getValue());
+        Assertions.assertEquals("fixed", invalidEntry1.getValue());
+        config1.close();
+        clearTestConfig();
+    }
 }
@@ -44,84 +44,100 @@ public class PropertiesConfig extends ConfigImpl {
     private final Resource resource;
     private Properties config;
 
-    private PropertiesConfig(@NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler, @Nullable DescriptionFormatter descriptionFormatter) {
-        super(description, exceptionHandler, descriptionFormatter);
+    private PropertiesConfig(@NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler, @Nullable DescriptionFormatter descriptionFormatter, boolean atomicReload) {
+        super(description, exceptionHandler, descriptionFormatter, atomicReload);
         this.resource = Objects.requireNonNull(resource);
     }
 
     @Override
     public void load() throws IllegalStateException, IOException {
-        if (this.config != null)
-            throw new IllegalStateException();
-        this.config = new Properties();
-        this.reload();
+        synchronized (this.getWriteLock()) {
+            if (this.config != null)
+                throw new IllegalStateException();
+            this.config = new Properties();
+            this.reload();
+        }
     }
 
     @Override
     public void reload() throws IllegalStateException, IOException {
-        if (this.config == null)
-            throw new IllegalStateException();
-        if (!this.resource.exists())
-            return;
+        synchronized (this.getWriteLock()) {
+            if (this.config == null)
+                throw new IllegalStateException();
+            if (!this.resource.exists())
+                return;
 
-        readFromFile();
-        populateEntries();
+            readFromFile();
+            this.updateValues(this::populateEntries);
 
+        }
     }
 
     @Override
     public void write() throws IOException {
-        if (this.config == null)
-            throw new IllegalStateException();
-        this.resource.createIfNotExists();
-
-        boolean shouldWrite = false;
-        for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
-            if (configEntry.isModified()) {
-                this.config.setProperty(configEntry.getPath(), configEntry.getValueToWrite(key -> {
-                    // Ignore all comments
-                    if (key instanceof EntryDescriptor)
-                        return ((EntryDescriptor) key).getValue();
-                    return key;
-                }).toString());
-                shouldWrite = true;
+        synchronized (this.getWriteLock()) {
+            if (this.config == null)
+                throw new IllegalStateException();
+            this.resource.createIfNotExists();
+
+            boolean shouldWrite = false;
+            for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
+                if (configEntry.isModified()) {
+                    this.config.setProperty(configEntry.getPath(), configEntry.getValueToWrite(key -> {
+                        // Ignore all comments
+                        if (key instanceof EntryDescriptor)
+                            return ((EntryDescriptor) key).getValue();
+                        return key;
+                    }).toString());
+                    shouldWrite = true;
+                }
             }
-        }
 
-        if (shouldWrite)
-            writeToFile();
+            if (shouldWrite)
+                writeToFile();
+        }
     }
 
     @Override
     public @Unmodifiable @NotNull Set<@NotNull String> prune() throws IOException {
-        if (this.config == null)
-            throw new IllegalStateException();
-        if (!this.resource.exists())
-            return Collections.emptySet();
-
-        Properties stripped = new Properties();
-        Collection<String> paths = this.getPaths();
-        Set<String> pathsRemoved = new HashSet<>();
-        for (Entry<Object, Object> entry : this.config.entrySet()) {
-            String key = (String) entry.getKey();
-            if (!paths.contains(key)) {
-                pathsRemoved.add(key);
-                continue;
+        synchronized (this.getWriteLock()) {
+            if (this.config == null)
+                throw new IllegalStateException();
+            if (!this.resource.exists())
+                return Collections.emptySet();
+
+            Properties stripped = new Properties();
+            Collection<String> paths = this.getPaths();
+            Set<String> pathsRemoved = new HashSet<>();
+            for (Entry<Object, Object> entry : this.config.entrySet()) {
+                String key = (String) entry.getKey();
+                if (!paths.contains(key)) {
+                    pathsRemoved.add(key);
+                    continue;
+                }
+                stripped.setProperty(key, (String) entry.getValue());
             }
-            stripped.setProperty(key, (String) entry.getValue());
-        }
 
-        if (!pathsRemoved.isEmpty()) {
-            this.config = stripped;
-            writeToFile();
+            if (!pathsRemoved.isEmpty()) {
+                this.config = stripped;
+                writeToFile();
+            }
+            return Collections.unmodifiableSet(pathsRemoved);
         }
-        return Collections.unmodifiableSet(pathsRemoved);
+    }
+
+    @Override
+    protected @NotNull Resource getResource() {
+        return this.resource;
     }
 
     @Override
     public void close() {
-        if (this.config != null)
-            this.config = null;
+        synchronized (this.getWriteLock()) {
+            this.flushPendingWrite();
+            if (this.config != null)
+                this.config = null;
+        }
     }
 
     /**
@@ -132,6 +148,7 @@ public class PropertiesConfig extends ConfigImpl {
     private void writeToFile() throws IOException {
         try (Writer writer = this.resource.getWriter()) {
             this.config.store(writer, this.getCommentFormatter().formatFileDescription(this));
+            Committable.commit(writer);
         }
     }
 
@@ -181,7 +198,7 @@ public class PropertiesConfig extends ConfigImpl {
 
         @Override
         public @NotNull PropertiesConfig build() {
-            return new PropertiesConfig(this.resource, this.description, this.exceptionHandler, this.descriptionFormatter);
+            return new PropertiesConfig(this.resource, this.description, this.exceptionHandler, this.descriptionFormatter, this.atomicReload);
         }
     }
 
@@ -228,7 +245,7 @@ public class PropertiesConfig extends ConfigImpl {
      * @return A new {@link PropertiesConfig} instance.
      */
     public static Config of(@NotNull Resource resource, @Nullable String description, @Nullable ExceptionHandler exceptionHandler) {
-        return new PropertiesConfig(resource, description, exceptionHandler, null);
+        return new PropertiesConfig(resource, description, exceptionHandler, null, false);
     }
 
     /**
@@ -7,3 +7,5 @@ include("properties")
 include("mongodb")
 include("json")
 include("yaml")
+include("benchmarks")
+include("annotation-processor")
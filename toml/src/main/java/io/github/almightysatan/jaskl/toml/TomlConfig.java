@@ -36,8 +36,8 @@ import java.net.URL;
 
 public class TomlConfig extends JacksonConfigImpl {
 
-    private TomlConfig(@NotNull Resource resource, @Nullable ExceptionHandler exceptionHandler) {
-        super(TomlMapper.builder().enable(TomlWriteFeature.FAIL_ON_NULL_WRITE).build(), resource, null, exceptionHandler);
+    private TomlConfig(@NotNull Resource resource, @Nullable ExceptionHandler exceptionHandler, boolean atomicReload) {
+        super(TomlMapper.builder().enable(TomlWriteFeature.FAIL_ON_NULL_WRITE).build(), resource, null, exceptionHandler, atomicReload);
     }
 
     /**
@@ -62,7 +62,7 @@ public class TomlConfig extends JacksonConfigImpl {
 
         @Override
         public @NotNull TomlConfig build() {
-            return new TomlConfig(this.resource, this.exceptionHandler);
+            return new TomlConfig(this.resource, this.exceptionHandler, this.atomicReload);
         }
     }
 
@@ -108,7 +108,7 @@ public class TomlConfig extends JacksonConfigImpl {
      * @return A new {@link TomlConfig} instance.
      */
     public static Config of(@NotNull Resource resource, @Nullable ExceptionHandler exceptionHandler) {
-        return new TomlConfig(resource, exceptionHandler);
+        return new TomlConfig(resource, exceptionHandler, false);
     }
 
     /**
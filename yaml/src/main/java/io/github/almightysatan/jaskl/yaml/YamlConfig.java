@@ -20,6 +20,7 @@
 
 package io.github.almightysatan.jaskl.yaml;
 
+import io.github.almightysatan.jaskl.Committable;
 import io.github.almightysatan.jaskl.ConfigBuilder;
 import io.github.almightysatan.jaskl.DescriptionFormatter;
 import io.github.almightysatan.jaskl.ExceptionHandler;
@@ -41,6 +42,7 @@ import org.yaml.snakeyaml.constructor.ConstructorException;
 import org.yaml.snakeyaml.constructor.SafeConstructor;
 import org.yaml.snakeyaml.error.Mark;
 import org.yaml.snakeyaml.nodes.*;
+import org.yaml.snakeyaml.reader.UnicodeReader;
 import org.yaml.snakeyaml.representer.Representer;
 
 import java.io.File;
@@ -62,11 +64,13 @@ public class YamlConfig extends ConfigImpl {
     private final Representer valueRepresenter;
     private Yaml yaml;
     private MappingNode root;
+    // Positions of the tuples of each mapping node by key. Built lazily when a node is written to for the first time.
+    private final Map<MappingNode, Map<String, Integer>> tupleIndex = new IdentityHashMap<>();
 
     private YamlConfig(@NotNull Resource resource, @Nullable String description,
                        @Nullable ExceptionHandler exceptionHandler, @Nullable DescriptionFormatter descriptionFormatter,
-                       @Nullable DumperOptions dumperOptions) {
-        super(description, exceptionHandler, descriptionFormatter);
+                       @Nullable DumperOptions dumperOptions, boolean atomicReload) {
+        super(description, exceptionHandler, descriptionFormatter, atomicReload);
         this.dumperOptions = dumperOptions != null ? dumperOptions : getDefaultDumperOptions();
         this.representer = new Representer(this.dumperOptions);
         this.valueRepresenter = new ValueRepresenter(this.dumperOptions);
@@ -75,70 +79,93 @@ public class YamlConfig extends ConfigImpl {
 
     @Override
     public void load() throws IOException, IllegalStateException {
-        if (this.yaml != null)
-            throw new IllegalStateException();
-        this.yaml = new Yaml(CONSTRUCTOR, this.representer, this.dumperOptions);
-        this.reload();
+        synchronized (this.getWriteLock()) {
+            if (this.yaml != null)
+                throw new IllegalStateException();
+            this.yaml = new Yaml(CONSTRUCTOR, this.representer, this.dumperOptions);
+            this.reload();
+        }
     }
 
     @Override
     public void reload() throws IOException, IllegalStateException {
-        if (this.yaml == null)
-            throw new IllegalStateException();
-        if (!this.resource.exists()) {
-            this.createRoot();
-            return;
-        }
-
-        try (Reader reader = this.resource.getReader()) {
-            this.root = (MappingNode) this.yaml.compose(reader);
-            if (this.root == null)
+        synchronized (this.getWriteLock()) {
+            if (this.yaml == null)
+                throw new IllegalStateException();
+            if (!this.resource.exists()) {
                 this.createRoot();
-            this.loadValues("", this.root);
+                return;
+            }
+
+            // Same as Yaml#load(InputStream), detects the encoding using the byte order mark
+            try (Reader reader = new UnicodeReader(this.resource.getInputStream())) {
+                this.tupleIndex.clear();
+                this.root = (MappingNode) this.yaml.compose(reader);
+                if (this.root == null)
+                    this.createRoot();
+                this.updateValues(() -> this.loadValues(this.getPathIndex(), this.root));
+            }
         }
     }
 
     @Override
     public void write() throws IOException {
-        if (this.yaml == null)
-            throw new IllegalStateException();
-        this.resource.createIfNotExists();
-
-        setComment(this.root, this.getCommentFormatter().formatFileDescription(this));
-
-        boolean shouldWrite = false;
-        for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
-            if (configEntry.isModified()) {
-                this.putNode(configEntry);
-                shouldWrite = true;
+        synchronized (this.getWriteLock()) {
+            if (this.yaml == null)
+                throw new IllegalStateException();
+            this.resource.createIfNotExists();
+
+            setComment(this.root, this.getCommentFormatter().formatFileDescription(this));
+
+            boolean shouldWrite = false;
+            for (WritableConfigEntry<?> configEntry : this.getCastedValues()) {
+                if (configEntry.isModified()) {
+                    this.putNode(configEntry);
+                    shouldWrite = true;
+                }
             }
-        }
 
-        if (shouldWrite)
-            try (Writer writer = this.resource.getWriter()) {
-                this.yaml.serialize(this.root, writer);
-            }
+            if (shouldWrite)
+                try (Writer writer = this.resource.getWriter()) {
+                    this.yaml.serialize(this.root, writer);
+                    Committable.commit(writer);
+                }
+        }
     }
 
     @Override
     public @Unmodifiable @NotNull Set<@NotNull String> prune() throws IOException {
-        if (this.yaml == null)
-            throw new IllegalStateException();
-        if (!this.resource.exists())
-            return Collections.emptySet();
-
-        Set<String> removedPaths = new HashSet<>();
-        if (this.stripNodes("", this.root, this.getPaths(), removedPaths))
-            try (Writer writer = this.resource.getWriter()) {
-                this.yaml.serialize(this.root, writer);
+        synchronized (this.getWriteLock()) {
+            if (this.yaml == null)
+                throw new IllegalStateException();
+            if (!this.resource.exists())
+                return Collections.emptySet();
+
+            Set<String> removedPaths = new HashSet<>();
+            if (this.stripNodes("", this.root, this.getPaths(), removedPaths)) {
+                this.tupleIndex.clear(); // Positions have changed
+                try (Writer writer = this.resource.getWriter()) {
+                    this.yaml.serialize(this.root, writer);
+                    Committable.commit(writer);
+                }
             }
-        return Collections.unmodifiableSet(removedPaths);
+            return Collections.unmodifiableSet(removedPaths);
+        }
+    }
+
+    @Override
+    protected @NotNull Resource getResource() {
+        return this.resource;
     }
 
     @Override
     public void close() {
-        this.yaml = null;
-        this.root = null;
+        synchronized (this.getWriteLock()) {
+            this.flushPendingWrite();
+            this.yaml = null;
+            this.root = null;
+            this.tupleIndex.clear();
+        }
     }
 
     @Override
@@ -147,72 +174,73 @@ public class YamlConfig extends ConfigImpl {
     }
 
     protected void createRoot() {
+        this.tupleIndex.clear();
         this.root = new MappingNode(Tag.MAP, new ArrayList<>(), DumperOptions.FlowStyle.BLOCK);
     }
 
-    protected void loadValues(@NotNull String path, @NotNull MappingNode node) {
+    protected void loadValues(@NotNull PathNode pathNode, @NotNull MappingNode node) {
         for (NodeTuple tuple : node.getValue()) {
+            PathNode child = pathNode.getChild(((ScalarNode) tuple.getKeyNode()).getValue());
+            if (child == null)
+                continue;
+
             Node valueNode = tuple.getValueNode();
-            String fieldPath = (path.isEmpty() ? "" : path + ".") + ((ScalarNode) tuple.getKeyNode()).getValue();
-            if (valueNode instanceof MappingNode) {
-                if (!this.loadValueIfEntryExists(fieldPath, valueNode))
-                    this.loadValues(fieldPath, (MappingNode) valueNode);
-            } else if (valueNode instanceof ScalarNode || valueNode instanceof SequenceNode)
-                this.loadValueIfEntryExists(fieldPath, valueNode);
+            WritableConfigEntry<?> entry = (WritableConfigEntry<?>) child.getEntry();
+            if (entry != null) {
+                if (valueNode instanceof MappingNode || valueNode instanceof ScalarNode || valueNode instanceof SequenceNode) {
+                    Object value = CONSTRUCTOR.constructObject(valueNode);
+                    if (value != null)
+                        entry.putValue(value, this.getExceptionHandler());
+                }
+            } else if (valueNode instanceof MappingNode)
+                this.loadValues(child, (MappingNode) valueNode);
         }
     }
 
-    /**
-     * Sets the value of a config entry if it exists
-     *
-     * @param path The path of the entry
-     * @param node The value
-     * @return true if the entry exists
-     */
-    protected boolean loadValueIfEntryExists(String path, Node node) {
-        WritableConfigEntry<?> entry = (WritableConfigEntry<?>) this.getEntryMap().get(path);
-        if (entry == null)
-            return false;
-        Object value = CONSTRUCTOR.constructObject(node);
-        if (value != null)
-            entry.putValue(value, this.getExceptionHandler());
-        return true;
-    }
-
     protected void putNode(@NotNull WritableConfigEntry<?> entry) {
-        String[] pathSplit = entry.getPath().split("\\.");
+        String[] pathSplit = entry.getPathSegments();
         MappingNode node = this.root;
-        pathLoop:
         for (int i = 0; i < pathSplit.length; i++) {
-            for (NodeTuple tuple : node.getValue()) {
-                if (((ScalarNode) tuple.getKeyNode()).getValue().equals(pathSplit[i])) {
-                    // Node exists
-                    if (i != pathSplit.length - 1) {
-                        node = (MappingNode) tuple.getValueNode();
-                        continue pathLoop;
-                    } else {
-                        node.getValue().replaceAll(nodeTuple -> {
-                            if (nodeTuple != tuple)
-                                return nodeTuple;
-                            return this.newNodeTuple(pathSplit[pathSplit.length - 1], entry);
-                        });
-                        return;
-                    }
-                }
+            List<NodeTuple> tuples = node.getValue();
+            Map<String, Integer> positions = this.getTuplePositions(node);
+            Integer position = positions.get(pathSplit[i]);
+            if (position != null) {
+                // Node exists
+                if (i != pathSplit.length - 1)
+                    node = (MappingNode) tuples.get(position).getValueNode();
+                else
+                    tuples.set(position, this.newNodeTuple(pathSplit[i], entry));
+                continue;
             }
 
             // Node does not exist
+            positions.put(pathSplit[i], tuples.size());
             if (i != pathSplit.length - 1) {
                 MappingNode newNode = new MappingNode(Tag.MAP, new ArrayList<>(), DumperOptions.FlowStyle.BLOCK);
-                node.getValue().add(new NodeTuple(this.yaml.represent(pathSplit[i]), newNode));
+                tuples.add(new NodeTuple(this.yaml.represent(pathSplit[i]), newNode));
                 node = newNode;
-            } else {
-                node.getValue().add(this.newNodeTuple(pathSplit[pathSplit.length - 1], entry));
-                return;
-            }
+            } else
+                tuples.add(this.newNodeTuple(pathSplit[i], entry));
         }
     }
 
+    /**
+     * Returns the positions of the tuples of the given node by key. If a key occurs multiple times, the first
+     * occurrence is used.
+     *
+     * @param node the node
+     * @return a mutable map containing the position of each key
+     */
+    protected @NotNull Map<String, Integer> getTuplePositions(@NotNull MappingNode node) {
+        return this.tupleIndex.computeIfAbsent(node, key -> {
+            List<NodeTuple> tuples = node.getValue();
+            Map<String, Integer> positions = new HashMap<>(tuples.size() * 2);
+            for (int i = 0; i < tuples.size(); i++)
+                positions.putIfAbsent(((ScalarNode) tuples.get(i).getKeyNode()).getValue(), i);
+            return positions;
+        });
+    }
+
     protected @NotNull NodeTuple newNodeTuple(@NotNull String path, @NotNull WritableConfigEntry<?> entry) {
         Node keyNode = this.yaml.represent(path);
         setComment(keyNode, this.getCommentFormatter().formatEntryDescription(entry));
@@ -283,7 +311,7 @@ public class YamlConfig extends ConfigImpl {
 
         @Override
         public @NotNull YamlConfig build() {
-            return new YamlConfig(this.resource, this.description, this.exceptionHandler, this.descriptionFormatter, this.dumperOptions);
+            return new YamlConfig(this.resource, this.description, this.exceptionHandler, this.descriptionFormatter, this.dumperOptions, this.atomicReload);
         }
 
         @Override
@@ -338,7 +366,7 @@ public class YamlConfig extends ConfigImpl {
      */
     public static @NotNull YamlConfig of(@NotNull Resource resource, @Nullable String description,
                                          @Nullable ExceptionHandler exceptionHandler, @Nullable DumperOptions dumperOptions) {
-        return new YamlConfig(resource, description, exceptionHandler, null, dumperOptions);
+        return new YamlConfig(resource, description, exceptionHandler, null, dumperOptions, false);
     }
 
     /**